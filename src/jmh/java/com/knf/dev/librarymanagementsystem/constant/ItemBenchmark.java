@@ -0,0 +1,33 @@
+package com.knf.dev.librarymanagementsystem.constant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+
+/**
+ * Resolving the item named in an export or import URL, for the first and
+ * the last item, a file name and a name that matches nothing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemBenchmark {
+
+    @Param({ "all-book", "all-author", "Author-List.csv", "unknown" })
+    private String value;
+
+    @Benchmark
+    public Optional<Item> getItemByValue() {
+        return Item.getItemByValue(value);
+    }
+}
@@ -0,0 +1,89 @@
+package com.knf.dev.librarymanagementsystem.controller;
+
+import com.knf.dev.librarymanagementsystem.Application;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.autoconfigure.web.servlet.SpringBootMockMvcBuilderCustomizer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * The book list served through the filter chain with and without the rendered
+ * page cache. Every uncached request carries a query string no earlier request
+ * had, so it is queried and rendered; the cached one repeats a single URL and
+ * is copied out of the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RenderedPageBenchmark {
+
+    private static final int BOOKS = 200;
+
+    private ServletWebServerApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    private long round;
+
+    @Setup
+    public void setUp() {
+        // the security configuration needs a servlet context; the port is never used
+        context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(Application.class)
+                .run("--server.port=0", "--spring.datasource.url=jdbc:h2:mem:jmh-render;DB_CLOSE_DELAY=-1;MODE=MySQL",
+                        "--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+        List<Object[]> rows = IntStream.range(0, BOOKS)
+                .mapToObj(i -> new Object[] { "Benchmark book " + i, "jmh-" + i, "Jmh Book " + i, "J" + i })
+                .collect(Collectors.toList());
+        context.getBean(JdbcTemplate.class).batchUpdate("insert into books (id, description, isbn, name, serial_name) "
+                + "values (next value for book_seq, ?, ?, ?, ?)", rows);
+        // the application's filters in their servlet order, as @AutoConfigureMockMvc registers them
+        DefaultMockMvcBuilder builder = MockMvcBuilders.webAppContextSetup(context);
+        new SpringBootMockMvcBuilderCustomizer(context).customize(builder);
+        mockMvc = builder.apply(springSecurity()).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int renderedPage() throws Exception {
+        return serve("/books?size=20&page=1&round=" + round++);
+    }
+
+    @Benchmark
+    public int cachedPage() throws Exception {
+        return serve("/books?size=20&page=1");
+    }
+
+    private int serve(String url) throws Exception {
+        return mockMvc.perform(get(url).with(user("user"))).andReturn().getResponse().getContentLength();
+    }
+}
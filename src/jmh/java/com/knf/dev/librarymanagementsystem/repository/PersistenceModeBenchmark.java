@@ -0,0 +1,121 @@
+package com.knf.dev.librarymanagementsystem.repository;
+
+import com.knf.dev.librarymanagementsystem.Application;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import com.knf.dev.librarymanagementsystem.service.impl.BookServiceImpl;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The hot book queries on the default in-memory database and on the prod
+ * profile's file-backed one, with the same catalog in both. The file-backed
+ * catalog is loaded and the application started again on it before it is
+ * measured, as a production instance reads it. The figures the profile was
+ * tuned with come from {@code -Djmh.args="-p books=1000000 PersistenceModeBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersistenceModeBenchmark {
+
+    private static final int INSERT_BATCH = 1000;
+
+    @Param({ "memory", "file" })
+    private String mode;
+
+    @Param({ "20000" })
+    private int books;
+
+    private Path dataDir;
+
+    private ConfigurableApplicationContext context;
+
+    private BookService bookService;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("jmh-persistence");
+        context = start();
+        load();
+        if ("file".equals(mode)) {
+            context.close();
+            context = start();
+        } else {
+            // rows written behind the service's back; index them the way a restart would
+            context.getBean(BookServiceImpl.class).rebuildSearchIndex();
+        }
+        bookService = context.getBean(BookService.class);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        try (var files = Files.walk(dataDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Object page() {
+        return bookService.findPaginated(Paginator.pageRequest(1 + ThreadLocalRandom.current().nextInt(50), 20, "name"));
+    }
+
+    @Benchmark
+    public Object isbn() {
+        return bookService.findExistingIsbns(List.of("bench-" + ThreadLocalRandom.current().nextInt(books)));
+    }
+
+    @Benchmark
+    public Object search() {
+        return bookService.searchBooks("Bench Book " + ThreadLocalRandom.current().nextInt(books));
+    }
+
+    // arguments rather than builder properties, which the profile files would override
+    private ConfigurableApplicationContext start() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(Application.class);
+        if ("file".equals(mode)) {
+            return builder.profiles("prod").run("--server.port=0", "--logging.level.root=WARN",
+                    "--library.data-dir=" + dataDir);
+        }
+        return builder.run("--server.port=0", "--logging.level.root=WARN", "--spring.jpa.show-sql=false",
+                "--spring.datasource.url=jdbc:h2:mem:jmh-persistence;MODE=MySQL");
+    }
+
+    private void load() {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        for (int start = 0; start < books; start += INSERT_BATCH) {
+            List<Object[]> rows = IntStream.range(start, Math.min(start + INSERT_BATCH, books))
+                    .mapToObj(i -> new Object[] { "Benchmark book " + i, "bench-" + i, "Bench Book " + i, "B" + i % 997 })
+                    .collect(Collectors.toList());
+            jdbc.batchUpdate("insert into books (id, description, isbn, name, serial_name) "
+                    + "values (next value for book_seq, ?, ?, ?, ?)", rows);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.knf.dev.librarymanagementsystem.repository;
+
+import com.knf.dev.librarymanagementsystem.Application;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * One catalog page read as managed entities and as constructor projections,
+ * each in its own read-only transaction as the services read them. The
+ * difference is the cost of hydrating and tracking entities that a list
+ * page never changes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionBenchmark {
+
+    private static final int BOOKS = 10_000;
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+
+    private BookRepository bookRepository;
+
+    private TransactionTemplate readOnly;
+
+    @Setup
+    public void setUp() {
+        // the security configuration needs a servlet context; the port is never used
+        context = new SpringApplicationBuilder(Application.class)
+                .run("--server.port=0", "--spring.datasource.url=jdbc:h2:mem:jmh-projection;DB_CLOSE_DELAY=-1;MODE=MySQL",
+                        "--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+        List<Object[]> rows = IntStream.range(0, BOOKS)
+                .mapToObj(i -> new Object[] { "Benchmark book " + i, "jmh-" + i, "Jmh Book " + i, "J" + i % 997 })
+                .collect(Collectors.toList());
+        context.getBean(JdbcTemplate.class).batchUpdate("insert into books (id, description, isbn, name, serial_name) "
+                + "values (next value for book_seq, ?, ?, ?, ?)", rows);
+        bookRepository = context.getBean(BookRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<?> entityPage() {
+        PageRequest page = randomPage();
+        return readOnly.execute(status -> bookRepository.findAll(page).getContent());
+    }
+
+    @Benchmark
+    public List<?> projectionPage() {
+        PageRequest page = randomPage();
+        return readOnly.execute(status -> bookRepository.findRecordsBy(page).getContent());
+    }
+
+    private PageRequest randomPage() {
+        return PageRequest.of(ThreadLocalRandom.current().nextInt(BOOKS / pageSize), pageSize, Sort.by("id"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.knf.dev.librarymanagementsystem.service.impl;
+
+import com.knf.dev.librarymanagementsystem.Application;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.BookRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The book list and the search box against the application's own context
+ * and an in-memory catalog of {@code books} rows, seeded once per trial.
+ * Pages are drawn from the first {@link #PAGES} of the list, which is where
+ * readers spend their time; search terms are the name of a random book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BookServiceBenchmark {
+
+    private static final int PAGES = 50;
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int INSERT_BATCH = 1000;
+
+    @Param({ "10000", "100000", "1000000" })
+    private int books;
+
+    private ConfigurableApplicationContext context;
+
+    private BookService bookService;
+
+    @Setup
+    public void setUp() {
+        // the security configuration needs a servlet context; the port is never used
+        context = new SpringApplicationBuilder(Application.class)
+                .run("--server.port=0", "--spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1;MODE=MySQL",
+                        "--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        for (int start = 0; start < books; start += INSERT_BATCH) {
+            List<Object[]> rows = IntStream.range(start, Math.min(start + INSERT_BATCH, books))
+                    .mapToObj(i -> new Object[] { "Benchmark book " + i, "jmh-" + i, "Jmh Book " + i, "J" + i % 997 })
+                    .collect(Collectors.toList());
+            jdbc.batchUpdate("insert into books (id, description, isbn, name, serial_name) "
+                    + "values (next value for book_seq, ?, ?, ?, ?)", rows);
+        }
+        // rows written behind the service's back; index them the way a restart would
+        context.getBean(BookServiceImpl.class).rebuildSearchIndex();
+        bookService = context.getBean(BookService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<BookRecord> findPaginated(Listing listing) {
+        int page = 1 + ThreadLocalRandom.current().nextInt(PAGES);
+        return bookService.findPaginated(Paginator.pageRequest(page, PAGE_SIZE, listing.sort));
+    }
+
+    @Benchmark
+    public List<BookRecord> searchBooks() {
+        return bookService.searchBooks("Jmh Book " + ThreadLocalRandom.current().nextInt(books));
+    }
+
+    /** The list's sort order; a state of its own so only the list is run once per order. */
+    @State(Scope.Benchmark)
+    public static class Listing {
+
+        @Param({ "id", "name" })
+        private String sort;
+    }
+}
@@ -0,0 +1,88 @@
+package com.knf.dev.librarymanagementsystem.service.impl;
+
+import com.knf.dev.librarymanagementsystem.Application;
+import com.knf.dev.librarymanagementsystem.service.FileService;
+import com.knf.dev.librarymanagementsystem.vo.ImportReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A CSV upload of {@code rows} books with shared authors, categories and
+ * publishers under the production persistence profile, as a librarian
+ * uploads it. Every invocation imports fresh ISBNs into the same growing
+ * catalog, so the later chunks also pay for the ISBN check against it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CsvImportBenchmark {
+
+    private static final int AUTHORS = 200;
+
+    private static final int CATEGORIES = 20;
+
+    private static final int PUBLISHERS = 50;
+
+    @Param({ "1000", "5000" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private FileService fileService;
+
+    private int run;
+
+    private byte[] csv;
+
+    @Setup
+    public void setUp() {
+        // the security configuration needs a servlet context; the port is never used
+        context = new SpringApplicationBuilder(Application.class)
+                .run("--spring.profiles.active=prod", "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:jmh-import;DB_CLOSE_DELAY=-1;MODE=MySQL",
+                        "--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+        fileService = context.getBean(FileService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void nextCsv() {
+        StringBuilder builder = new StringBuilder("ID,ISBN,NAME,SERIALNAME,DESCRIPTION,AUTHORS,CATEGORIES,PUBLISHERS\n");
+        run++;
+        for (int i = 0; i < rows; i++) {
+            builder.append(String.format(",jmh-%d-%d,Imported Book %d,S%d,Import benchmark.,Author %d|Author %d,Category %d,Publisher %d%n",
+                    run, i, i, i, i % AUTHORS, (i + 1) % AUTHORS, i % CATEGORIES, i % PUBLISHERS));
+        }
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ImportReport importBooks() throws IOException {
+        return fileService.importCSV("all-book", new ByteArrayInputStream(csv));
+    }
+}
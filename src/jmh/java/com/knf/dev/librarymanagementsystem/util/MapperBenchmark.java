@@ -0,0 +1,107 @@
+package com.knf.dev.librarymanagementsystem.util;
+
+import com.knf.dev.librarymanagementsystem.entity.Author;
+import com.knf.dev.librarymanagementsystem.entity.Book;
+import com.knf.dev.librarymanagementsystem.vo.AuthorRecord;
+import com.knf.dev.librarymanagementsystem.vo.BookRecord;
+import com.opencsv.CSVWriter;
+import com.opencsv.bean.StatefulBeanToCsv;
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import com.opencsv.exceptions.CsvException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Entity to record mapping as done for every row of an API page and every
+ * detail view, and CSV rows as the exports write them, next to the bean
+ * writer they replaced. Run with {@code -prof gc} to see the bytes allocated
+ * per mapped page next to the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private List<Book> books;
+
+    private List<Author> authors;
+
+    private List<BookRecord> records;
+
+    private Writer sink;
+
+    @Setup
+    public void setUp() {
+        books = IntStream.range(0, pageSize).mapToObj(i -> {
+            Book book = new Book("isbn-" + i, "Book " + i, "Series " + i % 7, "Description of book " + i);
+            book.setId((long) i);
+            return book;
+        }).collect(Collectors.toList());
+        authors = IntStream.range(0, pageSize).mapToObj(i -> {
+            Author author = new Author("Author " + i, "Description of author " + i);
+            author.setId((long) i);
+            return author;
+        }).collect(Collectors.toList());
+        records = Mapper.bookModelToVo(books);
+        sink = Writer.nullWriter();
+    }
+
+    @Benchmark
+    public List<BookRecord> bookPage() {
+        return Mapper.bookModelToVo(books);
+    }
+
+    @Benchmark
+    public BookRecord book() {
+        return Mapper.bookModelToVo(books.get(0));
+    }
+
+    @Benchmark
+    public List<AuthorRecord> authorPage() {
+        return Mapper.authorModelToVo(authors);
+    }
+
+    @Benchmark
+    public Writer bookCsvRows() {
+        CSVWriter writer = csvWriter();
+        String[] row = new String[5];
+        for (BookRecord record : records) {
+            writer.writeNext(Mapper.bookToCsvRow(record, row), false);
+        }
+        return sink;
+    }
+
+    @Benchmark
+    public Writer bookCsvBeans() throws CsvException {
+        StatefulBeanToCsv<BookRecord> writer = new StatefulBeanToCsvBuilder<BookRecord>(sink)
+                .withQuotechar(CSVWriter.NO_QUOTE_CHARACTER).withSeparator(CSVWriter.DEFAULT_SEPARATOR)
+                .withOrderedResults(false).build();
+        for (BookRecord record : records) {
+            writer.write(record);
+        }
+        return sink;
+    }
+
+    private CSVWriter csvWriter() {
+        return new CSVWriter(sink, CSVWriter.DEFAULT_SEPARATOR, CSVWriter.NO_QUOTE_CHARACTER,
+                CSVWriter.DEFAULT_ESCAPE_CHARACTER, CSVWriter.DEFAULT_LINE_END);
+    }
+}
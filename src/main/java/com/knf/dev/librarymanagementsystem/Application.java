@@ -7,7 +7,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.knf.dev.librarymanagementsystem.entity.Author;
 import com.knf.dev.librarymanagementsystem.entity.Book;
@@ -22,7 +22,7 @@ import com.knf.dev.librarymanagementsystem.service.BookService;
 public class Application {
 
 	@Autowired
-	private BCryptPasswordEncoder passwordEncoder;
+	private PasswordEncoder passwordEncoder;
 
 	@Autowired
 	private BookService bookService;
@@ -37,6 +37,10 @@ public class Application {
 	@Bean
 	public CommandLineRunner initialCreate() {
 		return (args) -> {
+			// a file-backed database keeps the sample data across restarts
+			if (userRepository.findByEmail("admin@admin.in") != null) {
+				return;
+			}
 
 			var book = new Book("AP1287", "Spring in Action ", "CXEF12389", "Book description");
 			book.addAuthors(new Author("Matt", "dummy description"));
@@ -0,0 +1,23 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration(proxyBeanMethods = false)
+public class ApiConfiguration {
+
+	/**
+	 * Adds an ETag to every {@code /api} response and answers a matching
+	 * {@code If-None-Match} with a bodiless 304, sparing clients the transfer
+	 * and the parsing of a page they already hold.
+	 */
+	@Bean
+	public FilterRegistrationBean<ShallowEtagHeaderFilter> apiEtagFilter() {
+		var registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+		registration.addUrlPatterns("/api/*");
+		return registration;
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import java.net.URI;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.knf.dev.librarymanagementsystem.constant.CacheRegions;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+
+@Configuration(proxyBeanMethods = false)
+public class CacheConfiguration {
+
+	/**
+	 * Caffeine-backed JCache manager handed to Hibernate as its second-level
+	 * cache. Each application context gets its own manager so two contexts
+	 * on different databases (as in the tests) never share cached rows.
+	 */
+	@Bean(destroyMethod = "close")
+	public CacheManager secondLevelCacheManager() {
+		var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+		return provider.getCacheManager(URI.create("second-level-cache-" + UUID.randomUUID()),
+				provider.getDefaultClassLoader());
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+		return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+	}
+
+	/**
+	 * Publishes hits, misses, puts and evictions of every region as
+	 * {@code cache.*} meters tagged with the region name.
+	 */
+	@Bean
+	public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+		return registry -> CacheRegions.ALL
+				.forEach(region -> JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(region)));
+	}
+
+}
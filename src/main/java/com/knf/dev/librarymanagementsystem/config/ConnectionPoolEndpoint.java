@@ -0,0 +1,67 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.knf.dev.librarymanagementsystem.vo.ConnectionPoolSnapshot;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@code /actuator/connectionpool}: active, idle and waiting connections
+ * next to the acquisition latency percentiles and histogram, so a stall can
+ * be told apart as pool starvation or slow queries from one request. The
+ * same figures are published as {@code hikaricp.connections.*} meters.
+ */
+@Component
+@Endpoint(id = "connectionpool")
+public class ConnectionPoolEndpoint {
+
+	private static final String ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+	private final HikariDataSource dataSource;
+
+	private final MeterRegistry meterRegistry;
+
+	public ConnectionPoolEndpoint(DataSource dataSource, MeterRegistry meterRegistry) throws Exception {
+		this.dataSource = dataSource.unwrap(HikariDataSource.class);
+		this.meterRegistry = meterRegistry;
+	}
+
+	@ReadOperation
+	public ConnectionPoolSnapshot pool() {
+		var pool = dataSource.getHikariPoolMXBean();
+		var percentiles = new LinkedHashMap<String, Double>();
+		var histogram = new LinkedHashMap<String, Long>();
+		long acquisitions = 0;
+		double mean = 0;
+		double max = 0;
+
+		// absent until the pool has been bound to the registry
+		var timer = meterRegistry.find(ACQUIRE_TIMER).tag("pool", dataSource.getPoolName()).timer();
+		if (timer != null) {
+			var snapshot = timer.takeSnapshot();
+			for (var percentile : snapshot.percentileValues()) {
+				percentiles.put(String.format("p%.0f", percentile.percentile() * 100),
+						percentile.value(TimeUnit.MILLISECONDS));
+			}
+			for (var bucket : snapshot.histogramCounts()) {
+				histogram.put(String.format("%.0fms", bucket.bucket(TimeUnit.MILLISECONDS)), (long) bucket.count());
+			}
+			acquisitions = snapshot.count();
+			mean = snapshot.mean(TimeUnit.MILLISECONDS);
+			max = snapshot.max(TimeUnit.MILLISECONDS);
+		}
+		return new ConnectionPoolSnapshot(dataSource.getPoolName(), pool.getActiveConnections(),
+				pool.getIdleConnections(), pool.getThreadsAwaitingConnection(), pool.getTotalConnections(),
+				dataSource.getMaximumPoolSize(), acquisitions, mean, max, percentiles, histogram);
+	}
+
+}
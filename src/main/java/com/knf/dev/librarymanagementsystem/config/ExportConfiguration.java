@@ -0,0 +1,48 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.knf.dev.librarymanagementsystem.constant.Item;
+import com.knf.dev.librarymanagementsystem.service.AuthorService;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import com.knf.dev.librarymanagementsystem.service.CategoryService;
+import com.knf.dev.librarymanagementsystem.service.CsvExport;
+import com.knf.dev.librarymanagementsystem.service.PublisherService;
+import com.knf.dev.librarymanagementsystem.util.Mapper;
+import com.knf.dev.librarymanagementsystem.vo.AuthorRecord;
+import com.knf.dev.librarymanagementsystem.vo.BookRecord;
+import com.knf.dev.librarymanagementsystem.vo.CategoryRecord;
+import com.knf.dev.librarymanagementsystem.vo.PublisherRecord;
+
+/**
+ * The CSV exports, one bean per item, each streaming the item's records
+ * through its Mapper row.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ExportConfiguration {
+
+	@Bean
+	public CsvExport<BookRecord> bookExport(BookService bookService) {
+		return CsvExport.of(Item.BOOK, Mapper.bookCsvHeader(), bookService::streamAllBooks, Mapper::bookToCsvRow);
+	}
+
+	@Bean
+	public CsvExport<AuthorRecord> authorExport(AuthorService authorService) {
+		return CsvExport.of(Item.AUTHOR, Mapper.authorCsvHeader(), authorService::streamAllAuthors,
+				Mapper::authorToCsvRow);
+	}
+
+	@Bean
+	public CsvExport<CategoryRecord> categoryExport(CategoryService categoryService) {
+		return CsvExport.of(Item.CATEGORY, Mapper.categoryCsvHeader(), categoryService::streamAllCategories,
+				Mapper::categoryToCsvRow);
+	}
+
+	@Bean
+	public CsvExport<PublisherRecord> publisherExport(PublisherService publisherService) {
+		return CsvExport.of(Item.PUBLISHER, Mapper.publisherCsvHeader(), publisherService::streamAllPublishers,
+				Mapper::publisherToCsvRow);
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTags;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Counts the JDBC statements each request executes and the time spent in
+ * them, and records both per endpoint as {@code library.http.jdbc.statements}
+ * and {@code library.http.jdbc.time}, tagged like
+ * {@code http.server.requests}. The statements are seen by {@link #LISTENER}
+ * on the proxied data source; a batch counts as one statement, since it is
+ * one round trip.
+ */
+public class JdbcRequestMetricsFilter extends OncePerRequestFilter {
+
+	private static final ThreadLocal<JdbcActivity> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * Adds each statement to the activity of the request running on the
+	 * calling thread; statements outside a request are not counted.
+	 */
+	static final QueryExecutionListener LISTENER = new QueryExecutionListener() {
+
+		@Override
+		public void beforeQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+			var activity = CURRENT.get();
+			if (activity != null) {
+				activity.startedAt = System.nanoTime();
+			}
+		}
+
+		@Override
+		public void afterQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+			var activity = CURRENT.get();
+			if (activity != null) {
+				activity.statements++;
+				activity.nanos += System.nanoTime() - activity.startedAt;
+			}
+		}
+	};
+
+	private final MeterRegistry registry;
+
+	public JdbcRequestMetricsFilter(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		var activity = new JdbcActivity();
+		CURRENT.set(activity);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			CURRENT.remove();
+			// read after the chain, once the dispatcher has stored the matched pattern
+			var tags = Tags.of(WebMvcTags.method(request), WebMvcTags.uri(request, response),
+					WebMvcTags.status(response));
+			DistributionSummary.builder("library.http.jdbc.statements")
+					.description("JDBC statements executed per request")
+					.baseUnit("statements")
+					.tags(tags)
+					.register(registry)
+					.record(activity.statements);
+			Timer.builder("library.http.jdbc.time")
+					.description("Time per request spent executing JDBC statements")
+					.tags(tags)
+					.register(registry)
+					.record(activity.nanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private static final class JdbcActivity {
+
+		private long startedAt;
+
+		private int statements;
+
+		private long nanos;
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Request-level performance metrics on top of Spring Boot's
+ * {@code http.server.requests}: time per service method and JDBC statements
+ * and time per request. Percentiles and histogram buckets are configured in
+ * application.properties under {@code management.metrics.distribution};
+ * everything is scraped from {@code /actuator/prometheus}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfiguration {
+
+	@Bean
+	ServiceTimingAspect serviceTimingAspect(MeterRegistry registry) {
+		return new ServiceTimingAspect(registry);
+	}
+
+	/**
+	 * Runs just inside Spring Boot's request timing filter, so the count
+	 * covers security, the rendered page cache and the handler alike.
+	 */
+	@Bean
+	public FilterRegistrationBean<JdbcRequestMetricsFilter> jdbcRequestMetricsFilter(MeterRegistry registry) {
+		var registration = new FilterRegistrationBean<>(new JdbcRequestMetricsFilter(registry));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+		return registration;
+	}
+
+	/**
+	 * Wraps the pool in a data source proxy that reports every statement to
+	 * {@link JdbcRequestMetricsFilter}. The proxy unwraps to the pool, so the
+	 * pool's own metrics and {@code /actuator/connectionpool} still see it.
+	 */
+	@Bean
+	static BeanPostProcessor jdbcMetricsDataSourceProxy() {
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource && !(bean instanceof ProxyDataSource)) {
+					return ProxyDataSourceBuilder.create(beanName, (DataSource) bean)
+							.listener(JdbcRequestMetricsFilter.LISTENER)
+							.build();
+				}
+				return bean;
+			}
+		};
+	}
+
+}
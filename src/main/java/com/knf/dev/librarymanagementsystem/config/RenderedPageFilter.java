@@ -0,0 +1,140 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.knf.dev.librarymanagementsystem.constant.Item;
+import com.knf.dev.librarymanagementsystem.util.CatalogVersions;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Keeps the rendered HTML of the list pages and serves it again while none
+ * of the tables a page is built from has changed, skipping both the queries
+ * and the template. Pages are kept per query string and per set of roles,
+ * which is all the templates vary on, and are bounded by their total size
+ * in bytes.
+ */
+public class RenderedPageFilter extends OncePerRequestFilter implements MeterBinder {
+
+	private final CatalogVersions versions;
+
+	private final Map<String, Set<Item>> pages;
+
+	private final Map<String, CatalogEtagInterceptor> validators;
+
+	private final Cache<PageKey, RenderedPage> rendered;
+
+	/**
+	 * @param pages    path of each cached page and the tables it is rendered from
+	 * @param maxBytes upper bound on the HTML held
+	 */
+	public RenderedPageFilter(CatalogVersions versions, Map<String, Set<Item>> pages, long maxBytes) {
+		this.versions = versions;
+		this.pages = pages;
+		this.validators = pages.entrySet().stream().collect(
+				Collectors.toMap(Map.Entry::getKey, page -> new CatalogEtagInterceptor(versions, page.getValue())));
+		this.rendered = Caffeine.newBuilder()
+				.maximumWeight(maxBytes)
+				.<PageKey, RenderedPage>weigher((key, page) -> key.weight() + page.body().length)
+				.recordStats()
+				.build();
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !"GET".equals(request.getMethod()) || !pages.containsKey(path(request)) || hasCsrfToken(request);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		var path = path(request);
+		var key = new PageKey(path, request.getQueryString(), roles());
+		// read before rendering: a write during the render leaves the page tagged stale, never the reverse
+		var version = versions.etag(pages.get(path), null);
+
+		var page = rendered.getIfPresent(key);
+		if (page != null && page.version().equals(version)) {
+			// the page's path is its handler's pattern; lets request metrics tag the hit by endpoint
+			request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, path);
+			if (validators.get(path).preHandle(request, response, null)) {
+				response.setContentType(page.contentType());
+				response.setContentLength(page.body().length);
+				response.getOutputStream().write(page.body());
+			}
+			return;
+		}
+
+		var wrapper = new ContentCachingResponseWrapper(response);
+		chain.doFilter(request, wrapper);
+		var contentType = wrapper.getContentType();
+		if (wrapper.getStatus() == HttpServletResponse.SC_OK && contentType != null
+				&& MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+			rendered.put(key, new RenderedPage(version, contentType, wrapper.getContentAsByteArray()));
+		}
+		wrapper.copyBodyToResponse();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, rendered, "rendered-pages");
+		Gauge.builder("rendered.pages.bytes", rendered,
+				cache -> cache.policy().eviction().orElseThrow().weightedSize().orElse(0))
+				.description("Bytes of rendered HTML held")
+				.baseUnit("bytes")
+				.register(registry);
+		Gauge.builder("rendered.pages.hit.ratio", rendered, cache -> cache.stats().hitRate())
+				.description("Share of list page requests served from rendered HTML")
+				.register(registry);
+	}
+
+	private static String path(HttpServletRequest request) {
+		return request.getRequestURI().substring(request.getContextPath().length());
+	}
+
+	// a page carrying one session's CSRF token must never be served to another
+	private static boolean hasCsrfToken(HttpServletRequest request) {
+		return request.getAttribute(CsrfToken.class.getName()) != null;
+	}
+
+	private static String roles() {
+		var authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()) {
+			return "";
+		}
+		return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).sorted()
+				.collect(Collectors.joining(","));
+	}
+
+	private record PageKey(String path, String query, String roles) {
+
+		int weight() {
+			return path.length() + (query == null ? 0 : query.length()) + roles.length();
+		}
+	}
+
+	private record RenderedPage(String version, String contentType, byte[] body) {
+	}
+
+}
@@ -0,0 +1,46 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every method of the {@code *Service} interfaces as
+ * {@code library.service}, tagged with the class of the bean called (not
+ * the interface, nor a superclass the method is inherited from), the method
+ * and the exception it threw, if any. Methods returning a stream are timed
+ * up to the point the stream is handed back, not while it is consumed.
+ */
+@Aspect
+class ServiceTimingAspect {
+
+	private final MeterRegistry registry;
+
+	ServiceTimingAspect(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Around("execution(public * com.knf.dev.librarymanagementsystem.service.*Service.*(..))")
+	public Object time(ProceedingJoinPoint call) throws Throwable {
+		var sample = Timer.start(registry);
+		var exception = "none";
+		try {
+			return call.proceed();
+		} catch (Throwable e) {
+			exception = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			sample.stop(Timer.builder("library.service")
+					.description("Time spent in service methods")
+					.tag("class", AopUtils.getTargetClass(call.getTarget()).getSimpleName())
+					.tag("method", call.getSignature().getName())
+					.tag("exception", exception)
+					.register(registry));
+		}
+	}
+
+}
@@ -0,0 +1,175 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills an empty catalog with a synthetic one of production scale for load
+ * tests: {@code library.synthetic-catalog.books} books with one to three
+ * authors and categories each and one publisher. Authors and categories are
+ * drawn with a skew, so a few are linked to many books and most to a
+ * handful, as in a real library. The same seed always produces the same
+ * catalog. Rows go in with batched JDBC, so a million books take minutes,
+ * not hours, and the search index picks them up when the application is
+ * ready. A catalog that already holds synthetic books is left alone.
+ */
+@Component
+@ConditionalOnProperty(name = "library.synthetic-catalog.enabled", havingValue = "true")
+public class SyntheticCatalogLoader implements ApplicationRunner {
+
+	static final String ISBN_PREFIX = "SYN-";
+
+	private static final int CHUNK_SIZE = 1000;
+
+	private static final String[] FIRST_NAMES = { "Ada", "Alan", "Barbara", "Brian", "Claude", "Donald", "Edsger",
+			"Frances", "Grace", "Guido", "Hedy", "James", "Joan", "John", "Ken", "Leslie", "Linus", "Margaret",
+			"Niklaus", "Radia", "Robin", "Sophie", "Tim", "Yukihiro" };
+
+	private static final String[] LAST_NAMES = { "Allen", "Backus", "Bosworth", "Dijkstra", "Gosling", "Hamilton",
+			"Hopper", "Kernighan", "Knuth", "Lamport", "Liskov", "Matsumoto", "McCarthy", "Milner", "Perlman",
+			"Ritchie", "Rossum", "Shannon", "Thompson", "Torvalds", "Turing", "Wilson", "Wirth" };
+
+	private static final String[] TITLE_WORDS = { "Advanced", "Algorithms", "Applied", "Architecture", "Art",
+			"Beginning", "Clean", "Cloud", "Code", "Compilers", "Concurrency", "Data", "Design", "Distributed",
+			"Effective", "Engineering", "Essential", "Functional", "Guide", "Java", "Kotlin", "Learning", "Modern",
+			"Networks", "Patterns", "Performance", "Practical", "Principles", "Programming", "Reactive", "Security",
+			"Spring", "Structures", "Systems", "Testing", "Theory", "Web" };
+
+	private static final String[] GENRES = { "Computing", "Databases", "Fiction", "History", "Languages",
+			"Mathematics", "Networking", "Philosophy", "Science", "Security" };
+
+	private final JdbcTemplate jdbc;
+
+	private final int books;
+
+	private final Random random;
+
+	public SyntheticCatalogLoader(JdbcTemplate jdbc, @Value("${library.synthetic-catalog.books}") int books,
+			@Value("${library.synthetic-catalog.seed}") long seed) {
+		this.jdbc = jdbc;
+		this.books = books;
+		this.random = new Random(seed);
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (jdbc.queryForObject("select count(*) from books where isbn like ?", Long.class, ISBN_PREFIX + "%") > 0) {
+			return;
+		}
+		// roughly three books per author and a hundred per publisher
+		var authors = insertNamed("insert into authors (id, name, description) values (?, ?, ?)", "author_seq",
+				Math.max(1, books / 3), i -> new Object[] { name(i), "Synthetic author." });
+		var categories = insertNamed("insert into categories (id, name) values (?, ?)", "category_seq",
+				Math.min(200, Math.max(1, books / 50)),
+				i -> new Object[] { GENRES[i % GENRES.length] + " " + (i / GENRES.length + 1) });
+		var publishers = insertNamed("insert into publishers (id, name) values (?, ?)", "publisher_seq",
+				Math.max(1, books / 100),
+				i -> new Object[] { LAST_NAMES[i % LAST_NAMES.length] + " Press " + (i / LAST_NAMES.length + 1) });
+
+		for (int start = 0; start < books; start += CHUNK_SIZE) {
+			var size = Math.min(CHUNK_SIZE, books - start);
+			var ids = nextIds("book_seq", size);
+			var rows = new ArrayList<Object[]>(size);
+			var authorLinks = new ArrayList<Object[]>(size * 2);
+			var categoryLinks = new ArrayList<Object[]>(size * 2);
+			var publisherLinks = new ArrayList<Object[]>(size);
+			for (int i = 0; i < size; i++) {
+				var id = ids.get(i);
+				var n = start + i;
+				rows.add(new Object[] { id, String.format("%s%010d", ISBN_PREFIX, n), title(),
+						"Series " + n % Math.max(1, books / 5), "Synthetic book " + n + "." });
+				for (var author : pick(authors, fanOut())) {
+					authorLinks.add(new Object[] { id, author });
+				}
+				for (var category : pick(categories, fanOut())) {
+					categoryLinks.add(new Object[] { id, category });
+				}
+				publisherLinks.add(new Object[] { id, publishers.get(random.nextInt(publishers.size())) });
+			}
+			jdbc.batchUpdate("insert into books (id, isbn, name, serial_name, description) values (?, ?, ?, ?, ?)",
+					rows);
+			jdbc.batchUpdate("insert into books_authors (book_id, author_id) values (?, ?)", authorLinks);
+			jdbc.batchUpdate("insert into books_categories (book_id, category_id) values (?, ?)", categoryLinks);
+			jdbc.batchUpdate("insert into books_publishers (book_id, publisher_id) values (?, ?)", publisherLinks);
+		}
+	}
+
+	// rows are built without their id, which is drawn from the sequence and put first
+	private List<Long> insertNamed(String insert, String sequence, int count, RowFactory row) {
+		var ids = new ArrayList<Long>(count);
+		for (int start = 0; start < count; start += CHUNK_SIZE) {
+			var size = Math.min(CHUNK_SIZE, count - start);
+			var chunkIds = nextIds(sequence, size);
+			var rows = new ArrayList<Object[]>(size);
+			for (int i = 0; i < size; i++) {
+				var values = row.values(start + i);
+				var withId = new Object[values.length + 1];
+				withId[0] = chunkIds.get(i);
+				System.arraycopy(values, 0, withId, 1, values.length);
+				rows.add(withId);
+			}
+			jdbc.batchUpdate(insert, rows);
+			ids.addAll(chunkIds);
+		}
+		return ids;
+	}
+
+	// one value per id; Hibernate's pooled optimizer never hands out a value it did not fetch itself
+	private List<Long> nextIds(String sequence, int count) {
+		return jdbc.queryForList("select next value for " + sequence + " from system_range(1, ?)", Long.class,
+				count);
+	}
+
+	// unique: the first and last name pair repeats only with a higher suffix
+	private static String name(int i) {
+		var pairs = FIRST_NAMES.length * LAST_NAMES.length;
+		var name = FIRST_NAMES[i % FIRST_NAMES.length] + " " + LAST_NAMES[i % pairs / FIRST_NAMES.length];
+		return i < pairs ? name : name + " " + i / pairs;
+	}
+
+	private String title() {
+		var words = 2 + random.nextInt(3);
+		var title = new StringBuilder(TITLE_WORDS[skewed(TITLE_WORDS.length)]);
+		for (int i = 1; i < words; i++) {
+			title.append(' ').append(TITLE_WORDS[random.nextInt(TITLE_WORDS.length)]);
+		}
+		return title.toString();
+	}
+
+	// 70% of books have one author or category, 22% two and 8% three
+	private int fanOut() {
+		var roll = random.nextInt(100);
+		return roll < 70 ? 1 : roll < 92 ? 2 : 3;
+	}
+
+	private Set<Long> pick(List<Long> ids, int count) {
+		var picked = new LinkedHashSet<Long>();
+		while (picked.size() < Math.min(count, ids.size())) {
+			picked.add(ids.get(skewed(ids.size())));
+		}
+		return picked;
+	}
+
+	// squaring a uniform draw favours the low indexes: the first tenth gets about a third of the picks
+	private int skewed(int bound) {
+		var r = random.nextDouble();
+		return (int) (bound * r * r);
+	}
+
+	@FunctionalInterface
+	private interface RowFactory {
+
+		Object[] values(int index);
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+/**
+ * Runs every servlet request, and with it every service call, on a virtual
+ * thread of its own instead of Tomcat's fixed worker pool, so a request
+ * blocked on JDBC no longer holds one of a few hundred platform threads.
+ * Needs a Java 21 runtime; the code is still compiled for Java 17, so the
+ * executor is looked up reflectively.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "library.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService virtualThreadExecutor() {
+		try {
+			var factory = MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+					MethodType.methodType(ExecutorService.class));
+			return (ExecutorService) factory.invoke();
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalStateException("library.virtual-threads.enabled needs Java 21 or later, running on "
+					+ Runtime.version(), e);
+		} catch (Throwable e) {
+			throw new IllegalStateException("Could not create the virtual thread executor", e);
+		}
+	}
+
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandler(ExecutorService virtualThreadExecutor) {
+		return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+	}
+
+	/**
+	 * Replaces the auto-configured pool behind {@code @Async} methods and
+	 * asynchronous MVC handlers.
+	 */
+	@Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+	public AsyncTaskExecutor applicationTaskExecutor(ExecutorService virtualThreadExecutor) {
+		return new TaskExecutorAdapter(virtualThreadExecutor);
+	}
+
+}
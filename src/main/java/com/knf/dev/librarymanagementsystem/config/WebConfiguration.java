@@ -0,0 +1,74 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import java.util.EnumSet;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.knf.dev.librarymanagementsystem.constant.Item;
+import com.knf.dev.librarymanagementsystem.util.CatalogVersions;
+
+@Configuration(proxyBeanMethods = false)
+public class WebConfiguration implements WebMvcConfigurer {
+
+	private final CatalogVersions catalogVersions;
+
+	public WebConfiguration(CatalogVersions catalogVersions) {
+		this.catalogVersions = catalogVersions;
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		// book pages list each book's authors, categories and publishers
+		registry.addInterceptor(new CatalogEtagInterceptor(catalogVersions, EnumSet.allOf(Item.class)))
+				.addPathPatterns("/", "/books", "/searchBook", "/book/*");
+		registry.addInterceptor(new CatalogEtagInterceptor(catalogVersions, EnumSet.of(Item.AUTHOR)))
+				.addPathPatterns("/authors", "/author/*");
+		registry.addInterceptor(new CatalogEtagInterceptor(catalogVersions, EnumSet.of(Item.CATEGORY)))
+				.addPathPatterns("/categories", "/category/*");
+		registry.addInterceptor(new CatalogEtagInterceptor(catalogVersions, EnumSet.of(Item.PUBLISHER)))
+				.addPathPatterns("/publishers", "/publisher/*");
+
+		registry.addInterceptor(new CatalogEtagInterceptor(catalogVersions, EnumSet.of(Item.BOOK)))
+				.addPathPatterns("/api/v1/books", "/api/v1/books/*");
+		registry.addInterceptor(new CatalogEtagInterceptor(catalogVersions, EnumSet.of(Item.AUTHOR)))
+				.addPathPatterns("/api/v1/authors", "/api/v1/authors/*");
+		registry.addInterceptor(new CatalogEtagInterceptor(catalogVersions, EnumSet.of(Item.CATEGORY)))
+				.addPathPatterns("/api/v1/categories", "/api/v1/categories/*");
+		registry.addInterceptor(new CatalogEtagInterceptor(catalogVersions, EnumSet.of(Item.PUBLISHER)))
+				.addPathPatterns("/api/v1/publishers", "/api/v1/publishers/*");
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "library.render-cache.enabled", havingValue = "true")
+	public RenderedPageFilter renderedPageFilter(@Value("${library.render-cache.max-size}") DataSize maxSize) {
+		return new RenderedPageFilter(catalogVersions, Map.of(
+				"/", EnumSet.allOf(Item.class),
+				"/books", EnumSet.allOf(Item.class),
+				"/searchBook", EnumSet.allOf(Item.class),
+				"/authors", EnumSet.of(Item.AUTHOR),
+				"/categories", EnumSet.of(Item.CATEGORY),
+				"/publishers", EnumSet.of(Item.PUBLISHER)), maxSize.toBytes());
+	}
+
+	/**
+	 * Runs the rendered page cache behind Spring Security, so pages are only
+	 * served to users who may see them and their roles are known.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "library.render-cache.enabled", havingValue = "true")
+	public FilterRegistrationBean<RenderedPageFilter> renderedPageFilterRegistration(RenderedPageFilter filter) {
+		var registration = new FilterRegistrationBean<>(filter);
+		registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+		return registration;
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.knf.dev.librarymanagementsystem.constant;
+
+import java.util.List;
+
+/**
+ * Second-level cache regions. Size and expiry of each are set in
+ * {@code application.conf}.
+ */
+public final class CacheRegions {
+
+	public static final String AUTHORS = "authors";
+
+	public static final String CATEGORIES = "categories";
+
+	public static final String PUBLISHERS = "publishers";
+
+	public static final String REFERENCE_DATA_QUERIES = "reference-data-queries";
+
+	public static final String QUERY_RESULTS = "default-query-results-region";
+
+	public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+	public static final List<String> ALL = List.of(AUTHORS, CATEGORIES, PUBLISHERS, REFERENCE_DATA_QUERIES,
+			QUERY_RESULTS, UPDATE_TIMESTAMPS);
+
+	private CacheRegions() {
+	}
+
+}
@@ -1,6 +1,7 @@
 package com.knf.dev.librarymanagementsystem.constant;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public enum Item {
@@ -8,6 +9,19 @@ public enum Item {
 	BOOK("all-book", "Book-List.csv"), CATEGORY("all-category", "Category-List.csv"),
 	PUBLISHER("all-publisher", "Publisher-List.csv"), AUTHOR("all-author", "Author-List.csv");
 
+	// names and file names, each with its item already wrapped, so a lookup allocates nothing
+	private static final Map<String, Optional<Item>> BY_VALUE;
+
+	static {
+		var byValue = new HashMap<String, Optional<Item>>();
+		for (var item : values()) {
+			var found = Optional.of(item);
+			byValue.put(item.name, found);
+			byValue.put(item.fileName, found);
+		}
+		BY_VALUE = Map.copyOf(byValue);
+	}
+
 	private final String name;
 	private final String fileName;
 
@@ -25,7 +39,6 @@ public enum Item {
 	}
 
 	public static Optional<Item> getItemByValue(String value) {
-		return Arrays.stream(Item.values())
-				.filter(accStatus -> accStatus.name.equals(value) || accStatus.fileName.equals(value)).findFirst();
+		return value == null ? Optional.empty() : BY_VALUE.getOrDefault(value, Optional.empty());
 	}
 }
@@ -1,10 +1,7 @@
 package com.knf.dev.librarymanagementsystem.controller;
 
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -15,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import com.knf.dev.librarymanagementsystem.entity.Author;
 import com.knf.dev.librarymanagementsystem.service.AuthorService;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.KeysetCursor;
 
 @Controller
 public class AuthorController {
@@ -27,18 +26,19 @@ public class AuthorController {
 
 	@RequestMapping("/authors")
 	public String findAllAuthors(Model model, @RequestParam("page") Optional<Integer> page,
-			@RequestParam("size") Optional<Integer> size) {
+			@RequestParam("size") Optional<Integer> size, @RequestParam("sort") Optional<String> sort) {
 
 		var currentPage = page.orElse(1);
 		var pageSize = size.orElse(5);
-		var bookPage = authorService.findPaginated(PageRequest.of(currentPage - 1, pageSize));
+		var keyset = KeysetCursor.start(sort.orElse(KeysetCursor.SORT_ID));
+		var bookPage = authorService.findPaginated(Paginator.pageRequest(currentPage, pageSize, keyset.sort()));
 
 		model.addAttribute("authors", bookPage);
+		model.addAttribute("sort", keyset.sort());
 
 		int totalPages = bookPage.getTotalPages();
 		if (totalPages > 0) {
-			var pageNumbers = IntStream.rangeClosed(1, totalPages).boxed().collect(Collectors.toList());
-			model.addAttribute("pageNumbers", pageNumbers);
+			model.addAttribute("pageNumbers", Paginator.pageNumbers(currentPage, totalPages));
 		}
 		return "list-authors";
 	}
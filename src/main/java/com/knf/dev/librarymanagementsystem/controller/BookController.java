@@ -1,10 +1,11 @@
 package com.knf.dev.librarymanagementsystem.controller;
 
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -19,6 +20,10 @@ import com.knf.dev.librarymanagementsystem.service.AuthorService;
 import com.knf.dev.librarymanagementsystem.service.BookService;
 import com.knf.dev.librarymanagementsystem.service.CategoryService;
 import com.knf.dev.librarymanagementsystem.service.PublisherService;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.BookListRecord;
+import com.knf.dev.librarymanagementsystem.vo.BookRecord;
+import com.knf.dev.librarymanagementsystem.vo.KeysetCursor;
 
 @Controller
 public class BookController {
@@ -38,28 +43,71 @@ public class BookController {
 
 	@RequestMapping({ "/books", "/" })
 	public String findAllBooks(Model model, @RequestParam("page") Optional<Integer> page,
-			@RequestParam("size") Optional<Integer> size) {
+			@RequestParam("size") Optional<Integer> size, @RequestParam("cursor") Optional<String> cursor,
+			@RequestParam("sort") Optional<String> sort) {
+
+		var pageSize = Paginator.clampSize(size.orElse(5));
+
+		if (cursor.isPresent()) {
+			var keyset = KeysetCursor.decode(cursor.get(), sort.orElse(KeysetCursor.SORT_ID));
+			var bookSlice = bookService.findSliceAfter(keyset, pageSize);
+			model.addAttribute("books", withRelations(bookSlice));
+			model.addAttribute("sort", keyset.sort());
+			addNextCursor(model, bookSlice, keyset);
+			return "list-books";
+		}
 
 		var currentPage = page.orElse(1);
-		var pageSize = size.orElse(5);
-
-		var bookPage = bookService.findPaginated(PageRequest.of(currentPage - 1, pageSize));
+		var keyset = KeysetCursor.start(sort.orElse(KeysetCursor.SORT_ID));
+		var bookPage = bookService.findPaginated(Paginator.pageRequest(currentPage, pageSize, keyset.sort()));
 
-		model.addAttribute("books", bookPage);
+		model.addAttribute("books", withRelations(bookPage));
+		model.addAttribute("sort", keyset.sort());
+		addNextCursor(model, bookPage, keyset);
 
 		var totalPages = bookPage.getTotalPages();
 		if (totalPages > 0) {
-			var pageNumbers = IntStream.rangeClosed(1, totalPages).boxed().collect(Collectors.toList());
-			model.addAttribute("pageNumbers", pageNumbers);
+			model.addAttribute("pageNumbers", Paginator.pageNumbers(currentPage, totalPages));
 		}
 		return "list-books";
 	}
 
+	private static void addNextCursor(Model model, Slice<BookRecord> books, KeysetCursor keyset) {
+		if (books.hasNext() && books.hasContent()) {
+			var last = books.getContent().get(books.getNumberOfElements() - 1);
+			model.addAttribute("nextCursor", keyset.next(last.id(), last.name()).encode());
+		}
+	}
+
+	/**
+	 * Adds the names of the authors, categories and publishers to a page of
+	 * records, without loading the books again as entities.
+	 */
+	private Page<BookListRecord> withRelations(Page<BookRecord> books) {
+		return new PageImpl<>(bookService.withRelationNames(books.getContent()), books.getPageable(),
+				books.getTotalElements());
+	}
+
+	private Slice<BookListRecord> withRelations(Slice<BookRecord> books) {
+		return new SliceImpl<>(bookService.withRelationNames(books.getContent()), books.getPageable(),
+				books.hasNext());
+	}
+
 	@RequestMapping("/searchBook")
-	public String searchBook(@Param("keyword") String keyword, Model model) {
+	public String searchBook(@Param("keyword") String keyword, Model model,
+			@RequestParam("page") Optional<Integer> page, @RequestParam("size") Optional<Integer> size) {
+
+		var currentPage = page.orElse(1);
+		var bookPage = bookService.searchPaginated(keyword, Paginator.pageRequest(currentPage, size.orElse(5), null));
 
-		model.addAttribute("books", bookService.searchBooks(keyword));
+		model.addAttribute("books", withRelations(bookPage));
 		model.addAttribute("keyword", keyword);
+		model.addAttribute("truncated", bookPage.isTruncated());
+
+		var totalPages = bookPage.getTotalPages();
+		if (totalPages > 0) {
+			model.addAttribute("pageNumbers", Paginator.pageNumbers(currentPage, totalPages));
+		}
 		return "list-books";
 	}
 
@@ -86,7 +134,6 @@ public class BookController {
 		}
 
 		bookService.createBook(book);
-		model.addAttribute("book", bookService.findAllBooks());
 		return "redirect:/books";
 	}
 
@@ -105,15 +152,12 @@ public class BookController {
 		}
 
 		bookService.updateBook(book);
-		model.addAttribute("book", bookService.findAllBooks());
 		return "redirect:/books";
 	}
 
 	@RequestMapping("/remove-book/{id}")
 	public String deleteBook(@PathVariable("id") Long id, Model model) {
 		bookService.deleteBook(id);
-
-		model.addAttribute("book", bookService.findAllBooks());
 		return "redirect:/books";
 	}
 
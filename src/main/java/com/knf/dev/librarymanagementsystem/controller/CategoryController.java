@@ -1,5 +1,7 @@
 package com.knf.dev.librarymanagementsystem.controller;
 
+import java.util.Optional;
+
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
@@ -8,11 +10,14 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 import com.knf.dev.librarymanagementsystem.entity.Category;
 import com.knf.dev.librarymanagementsystem.service.CategoryService;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.KeysetCursor;
 
 @Controller
 public class CategoryController {
@@ -25,9 +30,21 @@ public class CategoryController {
 	}
 
 	@RequestMapping("/categories")
-	public String findAllCategories(Model model) {
+	public String findAllCategories(Model model, @RequestParam("page") Optional<Integer> page,
+			@RequestParam("size") Optional<Integer> size, @RequestParam("sort") Optional<String> sort) {
+
+		var currentPage = page.orElse(1);
+		var pageSize = size.orElse(5);
+		var keyset = KeysetCursor.start(sort.orElse(KeysetCursor.SORT_ID));
+		var categoryPage = categoryService.findPaginated(Paginator.pageRequest(currentPage, pageSize, keyset.sort()));
 
-		model.addAttribute("categories", categoryService.findAllCategories());
+		model.addAttribute("categories", categoryPage);
+		model.addAttribute("sort", keyset.sort());
+
+		int totalPages = categoryPage.getTotalPages();
+		if (totalPages > 0) {
+			model.addAttribute("pageNumbers", Paginator.pageNumbers(currentPage, totalPages));
+		}
 		return "list-categories";
 	}
 
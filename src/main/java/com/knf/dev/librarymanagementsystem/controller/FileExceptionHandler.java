@@ -0,0 +1,36 @@
+package com.knf.dev.librarymanagementsystem.controller;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import com.knf.dev.librarymanagementsystem.exception.BusyException;
+import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
+
+/**
+ * Errors of the CSV export and import controllers. An unknown export or
+ * import is a missing page, rendered by the regular error page rather than as
+ * a half-written download or a server error; an export turned away for being
+ * one too many is a 503 the client can retry.
+ */
+@ControllerAdvice(assignableTypes = { FileExportController.class, FileImportController.class })
+public class FileExceptionHandler {
+
+	static final String RETRY_AFTER_SECONDS = "30";
+
+	@ExceptionHandler(NotFoundException.class)
+	public void notFound(NotFoundException e, HttpServletResponse response) throws IOException {
+		response.sendError(HttpServletResponse.SC_NOT_FOUND, e.getMessage());
+	}
+
+	@ExceptionHandler(BusyException.class)
+	public void busy(BusyException e, HttpServletResponse response) throws IOException {
+		response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+		response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, e.getMessage());
+	}
+
+}
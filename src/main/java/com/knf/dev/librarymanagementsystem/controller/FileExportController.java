@@ -1,11 +1,15 @@
 package com.knf.dev.librarymanagementsystem.controller;
 
+import java.util.concurrent.Semaphore;
+
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import com.knf.dev.librarymanagementsystem.exception.BusyException;
 import com.knf.dev.librarymanagementsystem.service.FileService;
 
 @Controller
@@ -13,14 +17,31 @@ public class FileExportController {
 
 	private final FileService fileService;
 
-	public FileExportController(FileService fileService) {
+	private final Semaphore exports;
+
+	public FileExportController(FileService fileService,
+			@Value("${library.export.max-concurrent}") int maxConcurrentExports) {
 		this.fileService = fileService;
+		this.exports = new Semaphore(maxConcurrentExports);
 	}
 
+	/**
+	 * A streamed export keeps its transaction, and so a pooled connection, for
+	 * as long as the client takes to read it. Past the limit an export is
+	 * turned away before it borrows one, so slow downloads cannot take the
+	 * connections every other page needs.
+	 */
 	@GetMapping("/export/{fileName}")
 	public void exportCSV(@PathVariable(value = "fileName") String fileName, HttpServletResponse response)
 			throws Exception {
-		fileService.exportCSV(fileName, response);
+		if (!exports.tryAcquire()) {
+			throw new BusyException("Too many exports in progress, please try again shortly");
+		}
+		try {
+			fileService.exportCSV(fileName, response);
+		} finally {
+			exports.release();
+		}
 	}
 
 }
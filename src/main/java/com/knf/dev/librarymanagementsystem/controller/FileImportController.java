@@ -0,0 +1,30 @@
+package com.knf.dev.librarymanagementsystem.controller;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.knf.dev.librarymanagementsystem.service.FileService;
+
+@Controller
+public class FileImportController {
+
+	private final FileService fileService;
+
+	public FileImportController(FileService fileService) {
+		this.fileService = fileService;
+	}
+
+	@PostMapping("/import/{fileName}")
+	public String importCSV(@PathVariable(value = "fileName") String fileName,
+			@RequestParam("file") MultipartFile file, Model model) throws Exception {
+		try (var csv = file.getInputStream()) {
+			model.addAttribute("report", fileService.importCSV(fileName, csv));
+		}
+		return "import-report";
+	}
+
+}
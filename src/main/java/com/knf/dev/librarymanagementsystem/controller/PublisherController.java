@@ -1,14 +1,19 @@
 package com.knf.dev.librarymanagementsystem.controller;
 
+import java.util.Optional;
+
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.knf.dev.librarymanagementsystem.entity.Publisher;
 import com.knf.dev.librarymanagementsystem.service.PublisherService;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.KeysetCursor;
 
 @Controller
 public class PublisherController {
@@ -21,9 +26,21 @@ public class PublisherController {
 	}
 
 	@RequestMapping("/publishers")
-	public String findAllPublishers(Model model) {
+	public String findAllPublishers(Model model, @RequestParam("page") Optional<Integer> page,
+			@RequestParam("size") Optional<Integer> size, @RequestParam("sort") Optional<String> sort) {
+
+		var currentPage = page.orElse(1);
+		var pageSize = size.orElse(5);
+		var keyset = KeysetCursor.start(sort.orElse(KeysetCursor.SORT_ID));
+		var publisherPage = publisherService.findPaginated(Paginator.pageRequest(currentPage, pageSize, keyset.sort()));
 
-		model.addAttribute("publishers", publisherService.findAllPublishers());
+		model.addAttribute("publishers", publisherPage);
+		model.addAttribute("sort", keyset.sort());
+
+		int totalPages = publisherPage.getTotalPages();
+		if (totalPages > 0) {
+			model.addAttribute("pageNumbers", Paginator.pageNumbers(currentPage, totalPages));
+		}
 		return "list-publishers";
 	}
 
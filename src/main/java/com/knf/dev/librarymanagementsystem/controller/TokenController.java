@@ -0,0 +1,55 @@
+package com.knf.dev.librarymanagementsystem.controller;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.knf.dev.librarymanagementsystem.securityconfig.TokenService;
+import com.knf.dev.librarymanagementsystem.vo.TokenResponse;
+
+@RestController
+@ConditionalOnProperty(name = "library.security.stateless.enabled", havingValue = "true")
+public class TokenController {
+
+	private final AuthenticationManager authenticationManager;
+
+	private final TokenService tokenService;
+
+	public TokenController(DaoAuthenticationProvider authenticationProvider, TokenService tokenService) {
+		// the same provider as form login: same users, password encoders and rehash-on-login
+		this.authenticationManager = new ProviderManager(authenticationProvider);
+		this.tokenService = tokenService;
+	}
+
+	@PostMapping("/auth/token")
+	public TokenResponse token(@RequestParam("username") String username,
+			@RequestParam("password") String password) {
+		var authentication = authenticationManager
+				.authenticate(new UsernamePasswordAuthenticationToken(username, password));
+		return tokenService.issue((UserDetails) authentication.getPrincipal());
+	}
+
+	@PostMapping("/auth/refresh")
+	public TokenResponse refresh(@RequestParam("refresh_token") String refreshToken) {
+		return tokenService.refresh(refreshToken);
+	}
+
+	@ExceptionHandler(AuthenticationException.class)
+	@ResponseStatus(HttpStatus.UNAUTHORIZED)
+	public Map<String, String> unauthorized(AuthenticationException e) {
+		return Map.of("error", "invalid_grant", "error_description", e.getMessage());
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.knf.dev.librarymanagementsystem.controller.api;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
+
+/**
+ * JSON error bodies for the {@code /api/v1} controllers; the HTML
+ * controllers keep their own error pages.
+ */
+@RestControllerAdvice(basePackageClasses = ApiExceptionHandler.class)
+public class ApiExceptionHandler {
+
+	@ExceptionHandler(NotFoundException.class)
+	@ResponseStatus(HttpStatus.NOT_FOUND)
+	public Map<String, String> notFound(NotFoundException e) {
+		return Map.of("error", e.getMessage());
+	}
+
+	@ExceptionHandler(IllegalArgumentException.class)
+	@ResponseStatus(HttpStatus.BAD_REQUEST)
+	public Map<String, String> badRequest(IllegalArgumentException e) {
+		return Map.of("error", e.getMessage());
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.knf.dev.librarymanagementsystem.controller.api;
+
+import java.util.Optional;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.ApiPage;
+
+@RestController
+@RequestMapping("/api/v1/books")
+public class BookApiController {
+
+	private static final int DEFAULT_PAGE_SIZE = 20;
+
+	private final BookService bookService;
+
+	public BookApiController(BookService bookService) {
+		this.bookService = bookService;
+	}
+
+	@GetMapping
+	public ApiPage<?> findBooks(@RequestParam("page") Optional<Integer> page,
+			@RequestParam("size") Optional<Integer> size, @RequestParam("sort") Optional<String> sort,
+			@RequestParam("q") Optional<String> query,
+			@RequestParam("fields") Optional<String> fields) {
+		var pageRequest = Paginator.pageRequest(page.orElse(1), size.orElse(DEFAULT_PAGE_SIZE), sort.orElse(null));
+		var books = query.isPresent() ? bookService.searchPaginated(query.get(), pageRequest)
+				: bookService.findPaginated(pageRequest);
+		return ApiPage.of(books, SparseFields.select(books.getContent(), fields));
+	}
+
+	@GetMapping("/{id}")
+	public Object findBookById(@PathVariable("id") Long id, @RequestParam("fields") Optional<String> fields) {
+		return SparseFields.select(bookService.findBookRecordById(id), fields);
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.knf.dev.librarymanagementsystem.controller.api;
+
+import java.util.Optional;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.knf.dev.librarymanagementsystem.service.CategoryService;
+import com.knf.dev.librarymanagementsystem.util.Mapper;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.ApiPage;
+
+@RestController
+@RequestMapping("/api/v1/categories")
+public class CategoryApiController {
+
+	private static final int DEFAULT_PAGE_SIZE = 20;
+
+	private final CategoryService categoryService;
+
+	public CategoryApiController(CategoryService categoryService) {
+		this.categoryService = categoryService;
+	}
+
+	@GetMapping
+	public ApiPage<?> findCategories(@RequestParam("page") Optional<Integer> page,
+			@RequestParam("size") Optional<Integer> size, @RequestParam("sort") Optional<String> sort,
+			@RequestParam("fields") Optional<String> fields) {
+		var pageRequest = Paginator.pageRequest(page.orElse(1), size.orElse(DEFAULT_PAGE_SIZE), sort.orElse(null));
+		var categories = categoryService.findPaginated(pageRequest);
+		return ApiPage.of(categories, SparseFields.select(categories.getContent(), fields));
+	}
+
+	@GetMapping("/{id}")
+	public Object findCategoryById(@PathVariable("id") Long id, @RequestParam("fields") Optional<String> fields) {
+		return SparseFields.select(Mapper.categoryModelToVo(categoryService.findCategoryById(id)), fields);
+	}
+
+}
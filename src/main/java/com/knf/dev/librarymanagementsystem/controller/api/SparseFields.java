@@ -0,0 +1,61 @@
+package com.knf.dev.librarymanagementsystem.controller.api;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * The {@code fields} parameter of the API: a comma separated subset of a
+ * record's components to return, e.g. {@code fields=id,name}. Without it the
+ * records are serialized whole.
+ */
+final class SparseFields {
+
+	private SparseFields() {
+	}
+
+	static List<?> select(List<? extends Record> records, Optional<String> fields) {
+		if (fields.isEmpty() || records.isEmpty()) {
+			return records;
+		}
+		var components = components(records.get(0).getClass(), fields.get());
+		return records.stream().map(record -> select(record, components)).collect(Collectors.toList());
+	}
+
+	static Object select(Record record, Optional<String> fields) {
+		return fields.isEmpty() ? record : select(record, components(record.getClass(), fields.get()));
+	}
+
+	private static List<RecordComponent> components(Class<?> type, String fields) {
+		var byName = Arrays.stream(type.getRecordComponents())
+				.collect(Collectors.toMap(RecordComponent::getName, component -> component, (a, b) -> a,
+						LinkedHashMap::new));
+		return Arrays.stream(fields.split(",")).map(String::trim).filter(field -> !field.isEmpty()).distinct()
+				.map(field -> {
+					var component = byName.get(field);
+					if (component == null) {
+						throw new IllegalArgumentException(String.format("Unknown field '%s', expected one of %s",
+								field, String.join(", ", byName.keySet())));
+					}
+					return component;
+				}).collect(Collectors.toList());
+	}
+
+	private static Map<String, Object> select(Record record, List<RecordComponent> components) {
+		var selected = new LinkedHashMap<String, Object>();
+		for (var component : components) {
+			try {
+				selected.put(component.getName(), component.getAccessor().invoke(record));
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return selected;
+	}
+
+}
@@ -11,14 +11,23 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToMany;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.knf.dev.librarymanagementsystem.constant.CacheRegions;
+
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.AUTHORS)
 @Table(name = "authors")
 public class Author {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "author_seq")
+	@SequenceGenerator(name = "author_seq", sequenceName = "author_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(name = "name", length = 100, nullable = false, unique = true)
@@ -27,6 +36,7 @@ public class Author {
 	@Column(name = "description", length = 250, nullable = false)
 	private String description;
 
+	@BatchSize(size = 50)
 	@ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE,
 			CascadeType.REMOVE }, mappedBy = "authors")
 	private Set<Book> books = new HashSet<Book>();
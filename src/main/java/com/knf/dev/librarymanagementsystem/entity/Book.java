@@ -10,17 +10,29 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.BatchSize;
+
 @Entity
-@Table(name = "books")
+@Table(name = "books", indexes = { @Index(name = "ix_books_name", columnList = "name, id"),
+		@Index(name = "ix_books_serial_name", columnList = "serialName") })
+@NamedEntityGraph(name = Book.WITH_RELATIONS, attributeNodes = { @NamedAttributeNode("authors"),
+		@NamedAttributeNode("categories"), @NamedAttributeNode("publishers") })
 public class Book {
 
+	public static final String WITH_RELATIONS = "Book.withRelations";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+	@SequenceGenerator(name = "book_seq", sequenceName = "book_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(name = "isbn", length = 50, nullable = false, unique = true)
@@ -35,19 +47,25 @@ public class Book {
 	@Column(name = "description", length = 250, nullable = false)
 	private String description;
 
+	@BatchSize(size = 50)
 	@ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REMOVE })
 	@JoinTable(name = "books_authors", joinColumns = { @JoinColumn(name = "book_id") }, inverseJoinColumns = {
-			@JoinColumn(name = "author_id") })
+			@JoinColumn(name = "author_id") }, indexes = {
+					@Index(name = "ix_books_authors_author", columnList = "author_id, book_id") })
 	private Set<Author> authors = new HashSet<Author>();
 
+	@BatchSize(size = 50)
 	@ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
 	@JoinTable(name = "books_categories", joinColumns = { @JoinColumn(name = "book_id") }, inverseJoinColumns = {
-			@JoinColumn(name = "category_id") })
+			@JoinColumn(name = "category_id") }, indexes = {
+					@Index(name = "ix_books_categories_category", columnList = "category_id, book_id") })
 	private Set<Category> categories = new HashSet<Category>();
 
+	@BatchSize(size = 50)
 	@ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE })
 	@JoinTable(name = "books_publishers", joinColumns = { @JoinColumn(name = "book_id") }, inverseJoinColumns = {
-			@JoinColumn(name = "publisher_id") })
+			@JoinColumn(name = "publisher_id") }, indexes = {
+					@Index(name = "ix_books_publishers_publisher", columnList = "publisher_id, book_id") })
 	private Set<Publisher> publishers = new HashSet<Publisher>();
 
 	public Book(String isbn, String name, String serialName, String description) {
@@ -11,19 +11,29 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToMany;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.knf.dev.librarymanagementsystem.constant.CacheRegions;
+
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PUBLISHERS)
 @Table(name = "publishers")
 public class Publisher {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "publisher_seq")
+	@SequenceGenerator(name = "publisher_seq", sequenceName = "publisher_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(name = "name", length = 100, nullable = false, unique = true)
 	private String name;
 
+	@BatchSize(size = 50)
 	@ManyToMany(fetch = FetchType.LAZY, cascade = { CascadeType.PERSIST, CascadeType.MERGE }, mappedBy = "publishers")
 	private Set<Book> books = new HashSet<Book>();
 
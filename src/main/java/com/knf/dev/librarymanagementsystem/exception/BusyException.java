@@ -0,0 +1,11 @@
+package com.knf.dev.librarymanagementsystem.exception;
+
+public class BusyException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public BusyException(String message) {
+		super(message);
+	}
+
+}
@@ -1,9 +1,47 @@
 package com.knf.dev.librarymanagementsystem.repository;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.knf.dev.librarymanagementsystem.constant.CacheRegions;
 import com.knf.dev.librarymanagementsystem.entity.Author;
+import com.knf.dev.librarymanagementsystem.vo.AuthorRecord;
+
+public interface AuthorRepository extends PagingRepository<Author, AuthorRecord> {
+
+	String SELECT_RECORDS = "SELECT new com.knf.dev.librarymanagementsystem.vo.AuthorRecord(a.id, a.name, a.description) FROM Author a";
+
+	@QueryHints({ @QueryHint(name = HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HINT_CACHE_REGION, value = CacheRegions.REFERENCE_DATA_QUERIES) })
+	@Override
+	public List<Author> findAll();
+
+	@Query(SELECT_RECORDS)
+	@Override
+	public Slice<AuthorRecord> findRecordsBy(Pageable pageable);
+
+	@Query(SELECT_RECORDS + " WHERE a.id > ?1 ORDER BY a.id")
+	@Override
+	public List<AuthorRecord> findRecordsAfterId(Long lastId, Pageable pageable);
+
+	@Query(SELECT_RECORDS + " WHERE a.name > ?1 OR (a.name = ?1 AND a.id > ?2) ORDER BY a.name, a.id")
+	@Override
+	public List<AuthorRecord> findRecordsAfterName(String lastName, Long lastId, Pageable pageable);
 
-public interface AuthorRepository extends JpaRepository<Author, Long> {
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+	@Query(SELECT_RECORDS + " ORDER BY a.id")
+	@Override
+	public Stream<AuthorRecord> streamRecordsBy();
 
 }
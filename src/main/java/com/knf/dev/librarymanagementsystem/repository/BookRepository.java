@@ -1,14 +1,69 @@
 package com.knf.dev.librarymanagementsystem.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.knf.dev.librarymanagementsystem.entity.Book;
+import com.knf.dev.librarymanagementsystem.vo.BookRecord;
+import com.knf.dev.librarymanagementsystem.vo.BookRelationName;
+
+public interface BookRepository extends PagingRepository<Book, BookRecord> {
+
+	String SELECT_RECORDS = "SELECT new com.knf.dev.librarymanagementsystem.vo.BookRecord(b.id, b.isbn, b.name, b.serialName, b.description) FROM Book b";
+
+	@Query(SELECT_RECORDS + " WHERE b.id IN ?1")
+	public List<BookRecord> findRecordsByIdIn(Collection<Long> ids);
+
+	@Query(SELECT_RECORDS + " WHERE b.id = ?1")
+	public Optional<BookRecord> findRecordById(Long id);
+
+	@Query("SELECT b.isbn FROM Book b WHERE b.isbn IN ?1")
+	public List<String> findIsbnsByIsbnIn(Collection<String> isbns);
+
+	@EntityGraph(Book.WITH_RELATIONS)
+	@Query("SELECT DISTINCT b FROM Book b WHERE b.id = ?1")
+	public Optional<Book> findByIdWithRelations(Long id);
+
+	/**
+	 * Second phase of a paged list: the page is read as records first, then
+	 * only the names of its relations, one statement per relation.
+	 */
+	@Query("SELECT new com.knf.dev.librarymanagementsystem.vo.BookRelationName(b.id, a.name) FROM Book b JOIN b.authors a WHERE b.id IN ?1 ORDER BY a.name")
+	public List<BookRelationName> findAuthorNamesByBookIdIn(Collection<Long> ids);
+
+	@Query("SELECT new com.knf.dev.librarymanagementsystem.vo.BookRelationName(b.id, c.name) FROM Book b JOIN b.categories c WHERE b.id IN ?1 ORDER BY c.name")
+	public List<BookRelationName> findCategoryNamesByBookIdIn(Collection<Long> ids);
+
+	@Query("SELECT new com.knf.dev.librarymanagementsystem.vo.BookRelationName(b.id, p.name) FROM Book b JOIN b.publishers p WHERE b.id IN ?1 ORDER BY p.name")
+	public List<BookRelationName> findPublisherNamesByBookIdIn(Collection<Long> ids);
+
+	@Query(SELECT_RECORDS)
+	@Override
+	public Slice<BookRecord> findRecordsBy(Pageable pageable);
+
+	@Query(SELECT_RECORDS + " WHERE b.id > ?1 ORDER BY b.id")
+	@Override
+	public List<BookRecord> findRecordsAfterId(Long lastId, Pageable pageable);
+
+	@Query(SELECT_RECORDS + " WHERE b.name > ?1 OR (b.name = ?1 AND b.id > ?2) ORDER BY b.name, b.id")
+	@Override
+	public List<BookRecord> findRecordsAfterName(String lastName, Long lastId, Pageable pageable);
 
-public interface BookRepository extends JpaRepository<Book, Long> {
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+	@Query(SELECT_RECORDS + " ORDER BY b.id")
+	@Override
+	public Stream<BookRecord> streamRecordsBy();
 
-	@Query("SELECT b FROM Book b WHERE b.name LIKE %?1%" + " OR b.isbn LIKE %?1%" + " OR b.serialName LIKE %?1%")
-	public List<Book> search(String keyword);
 }
@@ -1,9 +1,47 @@
 package com.knf.dev.librarymanagementsystem.repository;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.knf.dev.librarymanagementsystem.constant.CacheRegions;
 import com.knf.dev.librarymanagementsystem.entity.Category;
+import com.knf.dev.librarymanagementsystem.vo.CategoryRecord;
+
+public interface CategoryRepository extends PagingRepository<Category, CategoryRecord> {
+
+	String SELECT_RECORDS = "SELECT new com.knf.dev.librarymanagementsystem.vo.CategoryRecord(c.id, c.name) FROM Category c";
+
+	@QueryHints({ @QueryHint(name = HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HINT_CACHE_REGION, value = CacheRegions.REFERENCE_DATA_QUERIES) })
+	@Override
+	public List<Category> findAll();
+
+	@Query(SELECT_RECORDS)
+	@Override
+	public Slice<CategoryRecord> findRecordsBy(Pageable pageable);
+
+	@Query(SELECT_RECORDS + " WHERE c.id > ?1 ORDER BY c.id")
+	@Override
+	public List<CategoryRecord> findRecordsAfterId(Long lastId, Pageable pageable);
+
+	@Query(SELECT_RECORDS + " WHERE c.name > ?1 OR (c.name = ?1 AND c.id > ?2) ORDER BY c.name, c.id")
+	@Override
+	public List<CategoryRecord> findRecordsAfterName(String lastName, Long lastId, Pageable pageable);
 
-public interface CategoryRepository extends JpaRepository<Category, Long> {
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+	@Query(SELECT_RECORDS + " ORDER BY c.id")
+	@Override
+	public Stream<CategoryRecord> streamRecordsBy();
 
 }
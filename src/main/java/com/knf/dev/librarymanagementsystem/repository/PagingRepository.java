@@ -0,0 +1,32 @@
+package com.knf.dev.librarymanagementsystem.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Bounded list queries shared by every catalog entity that has an {@code id}
+ * and a {@code name}. Each repository declares them with a JPQL constructor
+ * expression, so list screens and exports read flat {@code R} records instead
+ * of managed entities; none of the paging methods issues a {@code COUNT(*)}.
+ */
+@NoRepositoryBean
+public interface PagingRepository<T, R> extends JpaRepository<T, Long> {
+
+	public Slice<R> findRecordsBy(Pageable pageable);
+
+	public List<R> findRecordsAfterId(Long lastId, Pageable pageable);
+
+	public List<R> findRecordsAfterName(String lastName, Long lastId, Pageable pageable);
+
+	/**
+	 * Every row in id order, read through a forward-only cursor. Must be
+	 * consumed and closed inside a transaction.
+	 */
+	public Stream<R> streamRecordsBy();
+
+}
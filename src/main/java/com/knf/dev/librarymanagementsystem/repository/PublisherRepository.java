@@ -1,9 +1,47 @@
 package com.knf.dev.librarymanagementsystem.repository;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.knf.dev.librarymanagementsystem.constant.CacheRegions;
 import com.knf.dev.librarymanagementsystem.entity.Publisher;
+import com.knf.dev.librarymanagementsystem.vo.PublisherRecord;
+
+public interface PublisherRepository extends PagingRepository<Publisher, PublisherRecord> {
+
+	String SELECT_RECORDS = "SELECT new com.knf.dev.librarymanagementsystem.vo.PublisherRecord(p.id, p.name) FROM Publisher p";
+
+	@QueryHints({ @QueryHint(name = HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HINT_CACHE_REGION, value = CacheRegions.REFERENCE_DATA_QUERIES) })
+	@Override
+	public List<Publisher> findAll();
+
+	@Query(SELECT_RECORDS)
+	@Override
+	public Slice<PublisherRecord> findRecordsBy(Pageable pageable);
+
+	@Query(SELECT_RECORDS + " WHERE p.id > ?1 ORDER BY p.id")
+	@Override
+	public List<PublisherRecord> findRecordsAfterId(Long lastId, Pageable pageable);
+
+	@Query(SELECT_RECORDS + " WHERE p.name > ?1 OR (p.name = ?1 AND p.id > ?2) ORDER BY p.name, p.id")
+	@Override
+	public List<PublisherRecord> findRecordsAfterName(String lastName, Long lastId, Pageable pageable);
 
-public interface PublisherRepository extends JpaRepository<Publisher, Long> {
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+	@Query(SELECT_RECORDS + " ORDER BY p.id")
+	@Override
+	public Stream<PublisherRecord> streamRecordsBy();
 
 }
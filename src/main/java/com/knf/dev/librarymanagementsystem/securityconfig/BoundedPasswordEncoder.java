@@ -0,0 +1,88 @@
+package com.knf.dev.librarymanagementsystem.securityconfig;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs password hashing on a small fixed pool instead of the request thread
+ * asking for it. At most {@code threads} hashes run at once, so a burst of
+ * logins cannot take every core away from the page requests around it.
+ * Callers beyond the queue are turned away at once and queued callers give
+ * up after the timeout; both fail the login with an
+ * {@link AuthenticationServiceException}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+	private final PasswordEncoder delegate;
+
+	private final ThreadPoolExecutor executor;
+
+	private final Duration timeout;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, Duration timeout) {
+		this.delegate = delegate;
+		this.timeout = timeout;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(() -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		// parses the stored hash only, no hashing involved
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private <T> T run(Callable<T> hashing) {
+		Future<T> result;
+		try {
+			result = executor.submit(hashing);
+		} catch (RejectedExecutionException e) {
+			throw new AuthenticationServiceException("Too many sign-ins in progress, please try again", e);
+		}
+
+		try {
+			return result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			result.cancel(true);
+			throw new AuthenticationServiceException("Sign-in timed out, please try again", e);
+		} catch (InterruptedException e) {
+			result.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new AuthenticationServiceException("Sign-in interrupted", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+}
@@ -1,13 +1,20 @@
 package com.knf.dev.librarymanagementsystem.securityconfig;
 
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
@@ -23,16 +30,34 @@ public class SecurityConfiguration {
 		this.userService = userService;
 	}
 
+	/**
+	 * New hashes use the encoder named by {@code library.password.encoder};
+	 * stored hashes of any other kind, or bcrypt hashes of a lower strength,
+	 * are re-encoded on the user's next successful login.
+	 */
 	@Bean
-	public BCryptPasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(@Value("${library.password.encoder}") String encoderId,
+			@Value("${library.password.bcrypt-strength}") int bcryptStrength,
+			@Value("${library.password.hashing-threads}") int hashingThreads,
+			@Value("${library.password.hashing-queue}") int hashingQueue,
+			@Value("${library.password.hashing-timeout}") Duration hashingTimeout) {
+		var bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+		var encoders = Map.<String, PasswordEncoder>of("bcrypt", bcrypt, "pbkdf2", new Pbkdf2PasswordEncoder(),
+				"argon2", new Argon2PasswordEncoder());
+		var delegating = new DelegatingPasswordEncoder(encoderId, encoders);
+		// hashes stored before they carried an {id} prefix are plain bcrypt
+		delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+		var threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		return new BoundedPasswordEncoder(delegating, threads, hashingQueue, hashingTimeout);
 	}
 
 	@Bean
-	public DaoAuthenticationProvider authenticationProvider() {
+	public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
 		DaoAuthenticationProvider auth = new DaoAuthenticationProvider();
 		auth.setUserDetailsService(userService);
-		auth.setPasswordEncoder(passwordEncoder());
+		auth.setUserDetailsPasswordService(userService);
+		auth.setPasswordEncoder(passwordEncoder);
 		return auth;
 	}
 
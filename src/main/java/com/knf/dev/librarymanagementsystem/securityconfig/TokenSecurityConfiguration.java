@@ -0,0 +1,78 @@
+package com.knf.dev.librarymanagementsystem.securityconfig;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+
+import com.knf.dev.librarymanagementsystem.service.UserService;
+import com.nimbusds.jose.JOSEException;
+
+/**
+ * Stateless mode, switched on with {@code library.security.stateless.enabled}.
+ * The token endpoints and every request carrying a bearer token go through a
+ * session-less chain ahead of the form login one, so those requests are
+ * authorized from the token alone. Browsers keep using form login.
+ */
+@Configuration
+@ConditionalOnProperty(name = "library.security.stateless.enabled", havingValue = "true")
+public class TokenSecurityConfiguration {
+
+	@Bean
+	public TokenService tokenService(@Value("${library.security.token.secret}") String secret,
+			@Value("${library.security.token.access-ttl}") Duration accessTokenTtl,
+			@Value("${library.security.token.refresh-ttl}") Duration refreshTokenTtl, UserService userService)
+			throws JOSEException {
+		return new TokenService(secret.getBytes(StandardCharsets.UTF_8), accessTokenTtl, refreshTokenTtl,
+				userService);
+	}
+
+	@Bean
+	@Order(1)
+	public SecurityFilterChain tokenFilterChain(HttpSecurity http, TokenService tokenService) throws Exception {
+		var roles = new JwtGrantedAuthoritiesConverter();
+		roles.setAuthoritiesClaimName(TokenService.ROLES);
+		roles.setAuthorityPrefix("");
+		var authentication = new JwtAuthenticationConverter();
+		authentication.setJwtGrantedAuthoritiesConverter(roles);
+
+		http
+				.requestMatcher(new OrRequestMatcher(new AntPathRequestMatcher("/auth/**"),
+						TokenSecurityConfiguration::hasBearerToken))
+				.authorizeRequests()
+						.antMatchers("/auth/token", "/auth/refresh").permitAll()
+						.anyRequest().authenticated()
+				.and()
+				.sessionManagement()
+						.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+				.and()
+				.csrf()
+						.disable()
+				.oauth2ResourceServer()
+						.jwt()
+						.decoder(tokenService.accessTokenDecoder())
+						.jwtAuthenticationConverter(authentication);
+
+		return http.build();
+	}
+
+	private static boolean hasBearerToken(HttpServletRequest request) {
+		var authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+		return authorization != null && authorization.regionMatches(true, 0, "Bearer ", 0, 7);
+	}
+
+}
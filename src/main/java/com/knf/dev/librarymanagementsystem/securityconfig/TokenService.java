@@ -0,0 +1,126 @@
+package com.knf.dev.librarymanagementsystem.securityconfig;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.stream.Collectors;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import com.knf.dev.librarymanagementsystem.service.UserService;
+import com.knf.dev.librarymanagementsystem.vo.TokenResponse;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+/**
+ * Issues and verifies the HMAC-signed bearer tokens of the stateless mode.
+ * Access tokens carry the user's roles, so a request presenting one is
+ * authorized from the token alone; refresh tokens carry only the user and
+ * are exchanged for a new pair at {@code /auth/refresh}.
+ */
+public class TokenService {
+
+	static final String TOKEN_USE = "token_use";
+
+	static final String ACCESS = "access";
+
+	static final String REFRESH = "refresh";
+
+	static final String ROLES = "roles";
+
+	private final MACSigner signer;
+
+	private final JwtDecoder accessTokenDecoder;
+
+	private final JwtDecoder refreshTokenDecoder;
+
+	private final Duration accessTokenTtl;
+
+	private final Duration refreshTokenTtl;
+
+	private final UserService userService;
+
+	public TokenService(byte[] secret, Duration accessTokenTtl, Duration refreshTokenTtl, UserService userService)
+			throws JOSEException {
+		this.signer = new MACSigner(secret);
+		this.accessTokenDecoder = decoder(secret, ACCESS);
+		this.refreshTokenDecoder = decoder(secret, REFRESH);
+		this.accessTokenTtl = accessTokenTtl;
+		this.refreshTokenTtl = refreshTokenTtl;
+		this.userService = userService;
+	}
+
+	public JwtDecoder accessTokenDecoder() {
+		return accessTokenDecoder;
+	}
+
+	public TokenResponse issue(UserDetails user) {
+		var roles = user.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toList());
+		var access = sign(claims(user.getUsername(), ACCESS, accessTokenTtl).claim(ROLES, roles).build());
+		var refresh = sign(claims(user.getUsername(), REFRESH, refreshTokenTtl).build());
+		return new TokenResponse(access, refresh, "Bearer", accessTokenTtl.toSeconds());
+	}
+
+	/**
+	 * Exchanges a valid refresh token for a new pair. The user is looked up
+	 * again, so role changes and removed users take effect here at the latest.
+	 */
+	public TokenResponse refresh(String refreshToken) {
+		Jwt jwt;
+		try {
+			jwt = refreshTokenDecoder.decode(refreshToken);
+		} catch (JwtException e) {
+			throw new BadCredentialsException("Invalid refresh token", e);
+		}
+		return issue(userService.loadUserByUsername(jwt.getSubject()));
+	}
+
+	private static JWTClaimsSet.Builder claims(String subject, String use, Duration ttl) {
+		var now = Instant.now();
+		return new JWTClaimsSet.Builder().subject(subject).issueTime(Date.from(now))
+				.expirationTime(Date.from(now.plus(ttl))).claim(TOKEN_USE, use);
+	}
+
+	private String sign(JWTClaimsSet claims) {
+		var jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+		try {
+			jwt.sign(signer);
+		} catch (JOSEException e) {
+			throw new IllegalStateException("Could not sign token", e);
+		}
+		return jwt.serialize();
+	}
+
+	private static JwtDecoder decoder(byte[] secret, String use) {
+		var decoder = NimbusJwtDecoder.withSecretKey(new SecretKeySpec(secret, "HmacSHA256"))
+				.macAlgorithm(MacAlgorithm.HS256).build();
+		decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(), tokenUse(use)));
+		return decoder;
+	}
+
+	// keeps a refresh token from being accepted as an access token and vice versa
+	private static OAuth2TokenValidator<Jwt> tokenUse(String use) {
+		var error = new OAuth2Error("invalid_token", "Token is not for " + use, null);
+		return jwt -> use.equals(jwt.getClaimAsString(TOKEN_USE)) ? OAuth2TokenValidatorResult.success()
+				: OAuth2TokenValidatorResult.failure(error);
+	}
+
+}
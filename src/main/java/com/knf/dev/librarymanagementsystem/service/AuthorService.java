@@ -1,24 +1,30 @@
 package com.knf.dev.librarymanagementsystem.service;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.knf.dev.librarymanagementsystem.entity.Author;
+import com.knf.dev.librarymanagementsystem.vo.AuthorRecord;
 
 public interface AuthorService {
 
 	public List<Author> findAllAuthors();
 
+	public Stream<AuthorRecord> streamAllAuthors();
+
 	public Author findAuthorById(Long id);
 
 	public void createAuthor(Author author);
 
+	public void createAuthors(List<Author> authors);
+
 	public void updateAuthor(Author author);
 
 	public void deleteAuthor(Long id);
 
-	public Page<Author> findPaginated(Pageable pageable);
+	public Page<AuthorRecord> findPaginated(Pageable pageable);
 
 }
@@ -1,26 +1,48 @@
 package com.knf.dev.librarymanagementsystem.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.knf.dev.librarymanagementsystem.entity.Book;
+import com.knf.dev.librarymanagementsystem.util.SearchPage;
+import com.knf.dev.librarymanagementsystem.vo.BookListRecord;
+import com.knf.dev.librarymanagementsystem.vo.BookRecord;
+import com.knf.dev.librarymanagementsystem.vo.KeysetCursor;
 
 public interface BookService {
 
 	public List<Book> findAllBooks();
 
-	public List<Book> searchBooks(String keyword);
+	public Stream<BookRecord> streamAllBooks();
+
+	public List<BookRecord> searchBooks(String keyword);
+
+	public SearchPage<BookRecord> searchPaginated(String keyword, Pageable pageable);
 
 	public Book findBookById(Long id);
 
+	public BookRecord findBookRecordById(Long id);
+
+	public List<BookListRecord> withRelationNames(List<BookRecord> books);
+
 	public void createBook(Book book);
 
+	public void createBooks(List<Book> books);
+
+	public Set<String> findExistingIsbns(Collection<String> isbns);
+
 	public void updateBook(Book book);
 
 	public void deleteBook(Long id);
 
-	public Page<Book> findPaginated(Pageable pageable);
+	public Page<BookRecord> findPaginated(Pageable pageable);
+
+	public Slice<BookRecord> findSliceAfter(KeysetCursor cursor, int pageSize);
 
 }
@@ -1,19 +1,30 @@
 package com.knf.dev.librarymanagementsystem.service;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import com.knf.dev.librarymanagementsystem.entity.Category;
+import com.knf.dev.librarymanagementsystem.vo.CategoryRecord;
 
 public interface CategoryService {
 
 	public List<Category> findAllCategories();
 
+	public Stream<CategoryRecord> streamAllCategories();
+
 	public Category findCategoryById(Long id);
 
 	public void createCategory(Category category);
 
+	public void createCategories(List<Category> categories);
+
 	public void updateCategory(Category category);
 
 	public void deleteCategory(Long id);
 
+	public Page<CategoryRecord> findPaginated(Pageable pageable);
+
 }
@@ -0,0 +1,57 @@
+package com.knf.dev.librarymanagementsystem.service;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.knf.dev.librarymanagementsystem.constant.Item;
+
+/**
+ * The CSV export of one item: where its records come from and how each is
+ * laid out as a row. Every export bean is collected by item into the file
+ * service, so exporting another item means declaring one more bean.
+ */
+public interface CsvExport<T> {
+
+	public Item item();
+
+	public String[] header();
+
+	/**
+	 * Records off an open cursor, read inside the caller's transaction.
+	 */
+	public Stream<T> records();
+
+	/**
+	 * Fills {@code row}, which the caller reuses for every record, and
+	 * returns it.
+	 */
+	public String[] toRow(T record, String[] row);
+
+	public static <T> CsvExport<T> of(Item item, String[] header, Supplier<Stream<T>> records,
+			BiFunction<T, String[], String[]> toRow) {
+		return new CsvExport<>() {
+
+			@Override
+			public Item item() {
+				return item;
+			}
+
+			@Override
+			public String[] header() {
+				return header.clone();
+			}
+
+			@Override
+			public Stream<T> records() {
+				return records.get();
+			}
+
+			@Override
+			public String[] toRow(T record, String[] row) {
+				return toRow.apply(record, row);
+			}
+		};
+	}
+
+}
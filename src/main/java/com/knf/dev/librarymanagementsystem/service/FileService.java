@@ -1,13 +1,14 @@
 package com.knf.dev.librarymanagementsystem.service;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 import javax.servlet.http.HttpServletResponse;
 
-import com.opencsv.exceptions.CsvDataTypeMismatchException;
-import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import com.knf.dev.librarymanagementsystem.vo.ImportReport;
 
 public interface FileService {
-	public void exportCSV(String fileName, HttpServletResponse response)
-			throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException, IOException;
+	public void exportCSV(String fileName, HttpServletResponse response) throws IOException;
+
+	public ImportReport importCSV(String fileName, InputStream csv) throws IOException;
 }
@@ -1,19 +1,30 @@
 package com.knf.dev.librarymanagementsystem.service;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import com.knf.dev.librarymanagementsystem.entity.Publisher;
+import com.knf.dev.librarymanagementsystem.vo.PublisherRecord;
 
 public interface PublisherService {
 
 	public List<Publisher> findAllPublishers();
 
+	public Stream<PublisherRecord> streamAllPublishers();
+
 	public Publisher findPublisherById(Long id);
 
 	public void createPublisher(Publisher publisher);
 
+	public void createPublishers(List<Publisher> publishers);
+
 	public void updatePublisher(Publisher publisher);
 
 	public void deletePublisher(Long id);
 
+	public Page<PublisherRecord> findPaginated(Pageable pageable);
+
 }
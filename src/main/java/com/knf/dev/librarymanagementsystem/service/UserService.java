@@ -1,7 +1,14 @@
 package com.knf.dev.librarymanagementsystem.service;
 
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
-public interface UserService extends UserDetailsService {
+public interface UserService extends UserDetailsService, UserDetailsPasswordService {
 
-}
\ No newline at end of file
+	/**
+	 * Drops the cached login details of a user. Must be called whenever the
+	 * password or the roles of that user change.
+	 */
+	public void evictUser(String email);
+
+}
@@ -1,28 +1,36 @@
 package com.knf.dev.librarymanagementsystem.service.impl;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.knf.dev.librarymanagementsystem.constant.Item;
 import com.knf.dev.librarymanagementsystem.entity.Author;
 import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
 import com.knf.dev.librarymanagementsystem.repository.AuthorRepository;
 import com.knf.dev.librarymanagementsystem.service.AuthorService;
+import com.knf.dev.librarymanagementsystem.util.CatalogVersions;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.AuthorRecord;
 
 @Service
 public class AuthorServiceImpl implements AuthorService {
 
 	private final AuthorRepository authorRepository;
 
-	public AuthorServiceImpl(AuthorRepository authorRepository) {
+	private final Paginator<AuthorRecord> paginator;
+
+	private final CatalogVersions catalogVersions;
+
+	public AuthorServiceImpl(AuthorRepository authorRepository, CatalogVersions catalogVersions) {
 		this.authorRepository = authorRepository;
+		this.paginator = new Paginator<>(authorRepository);
+		this.catalogVersions = catalogVersions;
 	}
 
 	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
@@ -31,6 +39,12 @@ public class AuthorServiceImpl implements AuthorService {
 		return authorRepository.findAll();
 	}
 
+	@Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+	@Override
+	public Stream<AuthorRecord> streamAllAuthors() {
+		return authorRepository.streamRecordsBy();
+	}
+
 	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 	@Override
 	public Author findAuthorById(Long id) {
@@ -41,11 +55,21 @@ public class AuthorServiceImpl implements AuthorService {
 	@Override
 	public void createAuthor(Author author) {
 		authorRepository.save(author);
+		catalogVersions.bump(Item.AUTHOR);
+		paginator.invalidateCount();
+	}
+
+	@Override
+	public void createAuthors(List<Author> authors) {
+		authorRepository.saveAll(authors);
+		catalogVersions.bump(Item.AUTHOR);
+		paginator.invalidateCount();
 	}
 
 	@Override
 	public void updateAuthor(Author author) {
 		authorRepository.save(author);
+		catalogVersions.bump(Item.AUTHOR);
 	}
 
 	@Override
@@ -54,25 +78,14 @@ public class AuthorServiceImpl implements AuthorService {
 				.orElseThrow(() -> new NotFoundException(String.format("Author not found with ID %d", id)));
 
 		authorRepository.deleteById(author.getId());
+		catalogVersions.bump(Item.AUTHOR);
+		paginator.invalidateCount();
 	}
 
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 	@Override
-	public Page<Author> findPaginated(Pageable pageable) {
-
-		var pageSize = pageable.getPageSize();
-		var currentPage = pageable.getPageNumber();
-		var startItem = currentPage * pageSize;
-		List<Author> list;
-
-		if (findAllAuthors().size() < startItem) {
-			list = Collections.emptyList();
-		} else {
-			var toIndex = Math.min(startItem + pageSize, findAllAuthors().size());
-			list = findAllAuthors().subList(startItem, toIndex);
-		}
-
-		return new PageImpl<Author>(list, PageRequest.of(currentPage, pageSize), findAllAuthors().size());
-
+	public Page<AuthorRecord> findPaginated(Pageable pageable) {
+		return paginator.findPage(pageable);
 	}
 
 }
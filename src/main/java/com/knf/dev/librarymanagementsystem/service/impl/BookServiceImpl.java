@@ -1,28 +1,63 @@
 package com.knf.dev.librarymanagementsystem.service.impl;
 
-import java.util.Collections;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.knf.dev.librarymanagementsystem.constant.Item;
 import com.knf.dev.librarymanagementsystem.entity.Book;
 import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
 import com.knf.dev.librarymanagementsystem.repository.BookRepository;
 import com.knf.dev.librarymanagementsystem.service.BookService;
+import com.knf.dev.librarymanagementsystem.util.CatalogVersions;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.util.SearchIndex;
+import com.knf.dev.librarymanagementsystem.util.SearchPage;
+import com.knf.dev.librarymanagementsystem.util.Transactions;
+import com.knf.dev.librarymanagementsystem.vo.BookListRecord;
+import com.knf.dev.librarymanagementsystem.vo.BookRecord;
+import com.knf.dev.librarymanagementsystem.vo.BookRelationName;
+import com.knf.dev.librarymanagementsystem.vo.KeysetCursor;
 
 @Service
 public class BookServiceImpl implements BookService {
 
+	private static final int REINDEX_CHUNK_SIZE = 1000;
+
+	// a broad search never renders more than this many books, however many match
+	static final int MAX_SEARCH_RESULTS = 500;
+
 	private final BookRepository bookRepository;
 
-	public BookServiceImpl(BookRepository bookRepository) {
+	private final Paginator<BookRecord> paginator;
+
+	// book writes cascade to authors, categories and publishers, so they bump every table
+	private final CatalogVersions catalogVersions;
+
+	// name, isbn, serialName
+	private final SearchIndex searchIndex = new SearchIndex(3, 2, 1);
+
+	public BookServiceImpl(BookRepository bookRepository, CatalogVersions catalogVersions) {
 		this.bookRepository = bookRepository;
+		this.paginator = new Paginator<>(bookRepository);
+		this.catalogVersions = catalogVersions;
 	}
 
 	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
@@ -31,30 +66,114 @@ public class BookServiceImpl implements BookService {
 		return bookRepository.findAll();
 	}
 
+	@Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+	@Override
+	public Stream<BookRecord> streamAllBooks() {
+		return bookRepository.streamRecordsBy();
+	}
+
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	@Override
+	public List<BookRecord> searchBooks(String keyword) {
+		return searchPaginated(keyword, PageRequest.of(0, MAX_SEARCH_RESULTS)).getContent();
+	}
+
 	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 	@Override
-	public List<Book> searchBooks(String keyword) {
-		if (keyword != null) {
-			return bookRepository.search(keyword);
+	public SearchPage<BookRecord> searchPaginated(String keyword, Pageable pageable) {
+		if (keyword == null || keyword.isBlank()) {
+			var page = paginator.findPage(pageable);
+			return new SearchPage<>(page.getContent(), pageable, page.getTotalElements(), false);
 		}
-		return bookRepository.findAll();
+		if (pageable.getOffset() >= MAX_SEARCH_RESULTS) {
+			return new SearchPage<>(List.of(), pageable, MAX_SEARCH_RESULTS, true);
+		}
+
+		var ids = searchIndex.search(keyword, pageable);
+		var total = Math.min(ids.getTotalElements(), MAX_SEARCH_RESULTS);
+		// a total past the cap is as much a lower bound as a cut-off prefix expansion
+		var truncated = ids.isTruncated() || ids.getTotalElements() > MAX_SEARCH_RESULTS;
+		var hits = ids.getContent().subList(0,
+				(int) Math.min(ids.getNumberOfElements(), MAX_SEARCH_RESULTS - pageable.getOffset()));
+		if (hits.isEmpty()) {
+			return new SearchPage<>(List.of(), pageable, total, truncated);
+		}
+
+		// keep the relevance order of the index, not the order of the IN query
+		var books = inOrder(hits, bookRepository.findRecordsByIdIn(hits), BookRecord::id);
+		return new SearchPage<>(books, pageable, total, truncated);
 	}
 
 	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 	@Override
 	public Book findBookById(Long id) {
-		return bookRepository.findById(id)
+		return bookRepository.findByIdWithRelations(id)
 				.orElseThrow(() -> new NotFoundException(String.format("Book not found with ID %d", id)));
 	}
 
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	@Override
+	public BookRecord findBookRecordById(Long id) {
+		return bookRepository.findRecordById(id)
+				.orElseThrow(() -> new NotFoundException(String.format("Book not found with ID %d", id)));
+	}
+
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	@Override
+	public List<BookListRecord> withRelationNames(List<BookRecord> books) {
+		if (books.isEmpty()) {
+			return List.of();
+		}
+		var ids = books.stream().map(BookRecord::id).collect(Collectors.toList());
+		var authors = namesByBook(bookRepository.findAuthorNamesByBookIdIn(ids));
+		var categories = namesByBook(bookRepository.findCategoryNamesByBookIdIn(ids));
+		var publishers = namesByBook(bookRepository.findPublisherNamesByBookIdIn(ids));
+		return books.stream()
+				.map(book -> new BookListRecord(book.id(), book.isbn(), book.name(), book.serialName(),
+						book.description(), authors.getOrDefault(book.id(), List.of()),
+						categories.getOrDefault(book.id(), List.of()), publishers.getOrDefault(book.id(), List.of())))
+				.collect(Collectors.toList());
+	}
+
+	private static Map<Long, List<String>> namesByBook(List<BookRelationName> names) {
+		return names.stream().collect(Collectors.groupingBy(BookRelationName::bookId,
+				Collectors.mapping(BookRelationName::name, Collectors.toList())));
+	}
+
 	@Override
 	public void createBook(Book book) {
 		bookRepository.save(book);
+		catalogVersions.bump(Item.values());
+		paginator.invalidateCount();
+		indexBook(book);
+	}
+
+	/**
+	 * Saves the books in one transaction, so the inserts of the books, their
+	 * relations and the join rows are flushed together as JDBC batches.
+	 */
+	@Override
+	public void createBooks(List<Book> books) {
+		bookRepository.saveAll(books);
+		catalogVersions.bump(Item.values());
+		paginator.invalidateCount();
+		books.forEach(this::indexBook);
+	}
+
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	@Override
+	public Set<String> findExistingIsbns(Collection<String> isbns) {
+		if (isbns.isEmpty()) {
+			return Set.of();
+		}
+		return new HashSet<>(bookRepository.findIsbnsByIsbnIn(isbns));
 	}
 
 	@Override
 	public void updateBook(Book book) {
 		bookRepository.save(book);
+		catalogVersions.bump(Item.values());
+		indexBook(book);
 	}
 
 	@Override
@@ -63,33 +182,58 @@ public class BookServiceImpl implements BookService {
 				.orElseThrow(() -> new NotFoundException(String.format("Book not found with ID %d", id)));
 
 		bookRepository.deleteById(book.getId());
+		catalogVersions.bump(Item.values());
+		paginator.invalidateCount();
+		Transactions.afterCommit(() -> searchIndex.remove(book.getId()));
 	}
 
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 	@Override
-	public Page<Book> findPaginated(Pageable pageable) {
-		long startTime = System.currentTimeMillis(); // 开始计时
-
-		List<Book> allBooks = findAllBooks();
-		int pageSize = pageable.getPageSize();
-		int currentPage = pageable.getPageNumber();
-		int startItem = currentPage * pageSize;
-		List<Book> list;
-
-		if (allBooks.size() < startItem) {
-			list = Collections.emptyList();
-		} else {
-			int toIndex = Math.min(startItem + pageSize, allBooks.size());
-			list = allBooks.subList(startItem, toIndex);
-		}
-
-		var bookPage = new PageImpl<>(list, PageRequest.of(currentPage, pageSize), allBooks.size());
+	public Page<BookRecord> findPaginated(Pageable pageable) {
+		return paginator.findPage(pageable);
+	}
 
-		long endTime = System.currentTimeMillis(); // 结束计时
-		System.out.println("Optimized method execution time: " + (endTime - startTime) + "ms");
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	@Override
+	public Slice<BookRecord> findSliceAfter(KeysetCursor cursor, int pageSize) {
+		return paginator.findSliceAfter(cursor, pageSize);
+	}
 
-		return bookPage;
+	/**
+	 * Rebuilds the search index from the database once the application is up,
+	 * reading the catalog in id order one chunk at a time.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildSearchIndex() {
+		searchIndex.clear();
+		var lastId = 0L;
+		List<BookRecord> chunk;
+		do {
+			chunk = bookRepository.findRecordsAfterId(lastId, PageRequest.of(0, REINDEX_CHUNK_SIZE));
+			for (var book : chunk) {
+				searchIndex.put(book.id(), book.name(), book.isbn(), book.serialName());
+				lastId = book.id();
+			}
+		} while (chunk.size() == REINDEX_CHUNK_SIZE);
 	}
 
+	private static <T> List<T> inOrder(List<Long> ids, List<T> rows, Function<T, Long> id) {
+		var rank = new HashMap<Long, Integer>();
+		ids.forEach(i -> rank.put(i, rank.size()));
+		return rows.stream().sorted(Comparator.comparingInt(row -> rank.get(id.apply(row))))
+				.collect(Collectors.toList());
+	}
 
+	/**
+	 * Indexes the book as it is now, once the surrounding transaction commits,
+	 * so searches never count a book that a rollback takes back out.
+	 */
+	private void indexBook(Book book) {
+		if (book.getId() != null) {
+			var id = book.getId();
+			var fields = new String[] { book.getName(), book.getIsbn(), book.getSerialName() };
+			Transactions.afterCommit(() -> searchIndex.put(id, fields));
+		}
+	}
 
 }
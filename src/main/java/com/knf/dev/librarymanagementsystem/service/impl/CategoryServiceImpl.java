@@ -1,23 +1,36 @@
 package com.knf.dev.librarymanagementsystem.service.impl;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.knf.dev.librarymanagementsystem.constant.Item;
 import com.knf.dev.librarymanagementsystem.entity.Category;
 import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
 import com.knf.dev.librarymanagementsystem.repository.CategoryRepository;
 import com.knf.dev.librarymanagementsystem.service.CategoryService;
+import com.knf.dev.librarymanagementsystem.util.CatalogVersions;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.CategoryRecord;
 
 @Service
 public class CategoryServiceImpl implements CategoryService {
 
 	private final CategoryRepository categoryRepository;
 
-	public CategoryServiceImpl(CategoryRepository categoryRepository) {
+	private final Paginator<CategoryRecord> paginator;
+
+	private final CatalogVersions catalogVersions;
+
+	public CategoryServiceImpl(CategoryRepository categoryRepository, CatalogVersions catalogVersions) {
 		this.categoryRepository = categoryRepository;
+		this.paginator = new Paginator<>(categoryRepository);
+		this.catalogVersions = catalogVersions;
 	}
 
 	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
@@ -26,6 +39,12 @@ public class CategoryServiceImpl implements CategoryService {
 		return categoryRepository.findAll();
 	}
 
+	@Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+	@Override
+	public Stream<CategoryRecord> streamAllCategories() {
+		return categoryRepository.streamRecordsBy();
+	}
+
 	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 	@Override
 	public Category findCategoryById(Long id) {
@@ -36,11 +55,21 @@ public class CategoryServiceImpl implements CategoryService {
 	@Override
 	public void createCategory(Category category) {
 		categoryRepository.save(category);
+		catalogVersions.bump(Item.CATEGORY);
+		paginator.invalidateCount();
+	}
+
+	@Override
+	public void createCategories(List<Category> categories) {
+		categoryRepository.saveAll(categories);
+		catalogVersions.bump(Item.CATEGORY);
+		paginator.invalidateCount();
 	}
 
 	@Override
 	public void updateCategory(Category category) {
 		categoryRepository.save(category);
+		catalogVersions.bump(Item.CATEGORY);
 	}
 
 	@Override
@@ -49,6 +78,14 @@ public class CategoryServiceImpl implements CategoryService {
 				.orElseThrow(() -> new NotFoundException(String.format("Category not found  with ID %d", id)));
 
 		categoryRepository.deleteById(category.getId());
+		catalogVersions.bump(Item.CATEGORY);
+		paginator.invalidateCount();
+	}
+
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	@Override
+	public Page<CategoryRecord> findPaginated(Pageable pageable) {
+		return paginator.findPage(pageable);
 	}
 
 }
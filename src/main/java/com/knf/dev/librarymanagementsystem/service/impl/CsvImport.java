@@ -0,0 +1,353 @@
+package com.knf.dev.librarymanagementsystem.service.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.knf.dev.librarymanagementsystem.constant.Item;
+import com.knf.dev.librarymanagementsystem.entity.Author;
+import com.knf.dev.librarymanagementsystem.entity.Book;
+import com.knf.dev.librarymanagementsystem.entity.Category;
+import com.knf.dev.librarymanagementsystem.entity.Publisher;
+import com.knf.dev.librarymanagementsystem.service.AuthorService;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import com.knf.dev.librarymanagementsystem.service.CategoryService;
+import com.knf.dev.librarymanagementsystem.service.PublisherService;
+import com.knf.dev.librarymanagementsystem.vo.ImportError;
+import com.knf.dev.librarymanagementsystem.vo.ImportReport;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+
+/**
+ * One run of a CSV import. Rows are read one at a time, validated, and
+ * written {@link #CHUNK_SIZE} at a time, each chunk in its own transaction
+ * and detached once written, so memory is bounded by one chunk plus the name lookups of the reference
+ * tables however long the file is.
+ */
+class CsvImport {
+
+	static final int CHUNK_SIZE = 1000;
+
+	static final int MAX_REPORTED_ERRORS = 100;
+
+	static final String ISBN = "ISBN";
+	static final String NAME = "NAME";
+	static final String SERIAL_NAME = "SERIALNAME";
+	static final String DESCRIPTION = "DESCRIPTION";
+	static final String AUTHORS = "AUTHORS";
+	static final String CATEGORIES = "CATEGORIES";
+	static final String PUBLISHERS = "PUBLISHERS";
+
+	// several authors, categories or publishers of one book: "Matt|Josh Lang"
+	private static final Pattern NAME_SEPARATOR = Pattern.compile("\\|");
+
+	private final Item item;
+
+	private final BookService bookService;
+
+	private final AuthorService authorService;
+
+	private final CategoryService categoryService;
+
+	private final PublisherService publisherService;
+
+	private final EntityManager entityManager;
+
+	private final TransactionTemplate writing;
+
+	private final TransactionTemplate reading;
+
+	private final NameLookup<Author> authors = new NameLookup<>(Author.class, Author::getId);
+
+	private final NameLookup<Category> categories = new NameLookup<>(Category.class, Category::getId);
+
+	private final NameLookup<Publisher> publishers = new NameLookup<>(Publisher.class, Publisher::getId);
+
+	private final Map<String, Integer> required;
+
+	private final List<String[]> rows = new ArrayList<>(CHUNK_SIZE);
+
+	private final List<Long> lines = new ArrayList<>(CHUNK_SIZE);
+
+	private final Set<String> chunkKeys = new HashSet<>();
+
+	private final List<ImportError> errors = new ArrayList<>();
+
+	private Map<String, Integer> columns = Map.of();
+
+	private long imported;
+
+	private long rejected;
+
+	CsvImport(Item item, BookService bookService, AuthorService authorService, CategoryService categoryService,
+			PublisherService publisherService, EntityManager entityManager,
+			PlatformTransactionManager transactionManager) {
+		this.item = item;
+		this.bookService = bookService;
+		this.authorService = authorService;
+		this.categoryService = categoryService;
+		this.publisherService = publisherService;
+		this.entityManager = entityManager;
+		this.writing = new TransactionTemplate(transactionManager);
+		this.reading = new TransactionTemplate(transactionManager);
+		this.reading.setReadOnly(true);
+		this.required = requiredColumns(item);
+	}
+
+	ImportReport run(CSVReader reader) throws IOException, CsvValidationException {
+		var header = reader.readNext();
+		if (header == null) {
+			return report();
+		}
+		columns = indexColumns(header);
+		var missing = required.keySet().stream().filter(column -> !columns.containsKey(column))
+				.collect(Collectors.toList());
+		if (!missing.isEmpty()) {
+			errors.add(new ImportError(1, "Missing column " + String.join(", ", missing)));
+			return report();
+		}
+
+		loadLookups();
+		String[] row;
+		while ((row = reader.readNext()) != null) {
+			var line = reader.getLinesRead();
+			var problem = validate(row);
+			if (problem != null) {
+				reject(line, problem);
+			} else {
+				rows.add(row);
+				lines.add(line);
+				if (rows.size() == CHUNK_SIZE) {
+					flush();
+				}
+			}
+		}
+		flush();
+		return report();
+	}
+
+	private static Map<String, Integer> requiredColumns(Item item) {
+		// column -> maximum length, as declared on the entity
+		var columns = new LinkedHashMap<String, Integer>();
+		switch (item) {
+		case BOOK:
+			columns.put(ISBN, 50);
+			columns.put(NAME, 100);
+			columns.put(SERIAL_NAME, 50);
+			columns.put(DESCRIPTION, 250);
+			break;
+		case AUTHOR:
+			columns.put(NAME, 100);
+			columns.put(DESCRIPTION, 250);
+			break;
+		case CATEGORY:
+			columns.put(NAME, 50);
+			break;
+		case PUBLISHER:
+			columns.put(NAME, 100);
+			break;
+		}
+		return columns;
+	}
+
+	private static Map<String, Integer> indexColumns(String[] header) {
+		var index = new HashMap<String, Integer>();
+		for (int i = 0; i < header.length; i++) {
+			index.putIfAbsent(header[i].replace("\uFEFF", "").trim().toUpperCase(Locale.ROOT), i);
+		}
+		return index;
+	}
+
+	private void loadLookups() {
+		reading.executeWithoutResult(status -> {
+			if (item == Item.BOOK || item == Item.AUTHOR) {
+				try (var all = authorService.streamAllAuthors()) {
+					all.forEach(author -> authors.put(author.name(), author.id()));
+				}
+			}
+			if (item == Item.BOOK || item == Item.CATEGORY) {
+				try (var all = categoryService.streamAllCategories()) {
+					all.forEach(category -> categories.put(category.name(), category.id()));
+				}
+			}
+			if (item == Item.BOOK || item == Item.PUBLISHER) {
+				try (var all = publisherService.streamAllPublishers()) {
+					all.forEach(publisher -> publishers.put(publisher.name(), publisher.id()));
+				}
+			}
+		});
+	}
+
+	private String validate(String[] row) {
+		for (var column : required.entrySet()) {
+			var problem = checkLength(column.getKey(), value(row, column.getKey()), column.getValue());
+			if (problem != null) {
+				return problem;
+			}
+		}
+
+		if (item == Item.BOOK) {
+			for (var relation : Map.of(AUTHORS, 100, CATEGORIES, 50, PUBLISHERS, 100).entrySet()) {
+				for (var name : names(row, relation.getKey())) {
+					var problem = checkLength(relation.getKey(), name, relation.getValue());
+					if (problem != null) {
+						return problem;
+					}
+				}
+			}
+		} else if (lookup().contains(value(row, NAME))) {
+			return String.format("%s '%s' already exists", NAME, value(row, NAME));
+		}
+
+		var key = value(row, item == Item.BOOK ? ISBN : NAME);
+		return chunkKeys.add(key) ? null : String.format("'%s' appears more than once", key);
+	}
+
+	private static String checkLength(String column, String value, int maxLength) {
+		if (value.isEmpty()) {
+			return column + " is required";
+		}
+		if (value.length() > maxLength) {
+			return String.format("%s is longer than %d characters", column, maxLength);
+		}
+		return null;
+	}
+
+	private void flush() {
+		if (item == Item.BOOK) {
+			rejectExistingIsbns();
+		}
+		if (rows.isEmpty()) {
+			return;
+		}
+
+		try {
+			writing.executeWithoutResult(status -> {
+				write();
+				// under open-session-in-view the request's persistence context outlives the
+				// transaction and commit does not clear it, so every chunk would stay managed
+				entityManager.flush();
+				entityManager.clear();
+			});
+			authors.commit();
+			categories.commit();
+			publishers.commit();
+			imported += rows.size();
+		} catch (RuntimeException e) {
+			authors.rollback();
+			categories.rollback();
+			publishers.rollback();
+			var first = lines.get(0);
+			var last = lines.get(lines.size() - 1);
+			reject(first, String.format("Lines %d-%d rolled back: %s", first, last,
+					NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+			rejected += rows.size() - 1;
+		}
+		rows.clear();
+		lines.clear();
+		chunkKeys.clear();
+	}
+
+	private void rejectExistingIsbns() {
+		var existing = bookService.findExistingIsbns(rows.stream().map(row -> value(row, ISBN))
+				.collect(Collectors.toList()));
+		if (existing.isEmpty()) {
+			return;
+		}
+		for (int i = rows.size() - 1; i >= 0; i--) {
+			var isbn = value(rows.get(i), ISBN);
+			if (existing.contains(isbn)) {
+				reject(lines.get(i), String.format("%s '%s' already exists", ISBN, isbn));
+				rows.remove(i);
+				lines.remove(i);
+			}
+		}
+	}
+
+	private void write() {
+		switch (item) {
+		case BOOK:
+			bookService.createBooks(rows.stream().map(this::toBook).collect(Collectors.toList()));
+			break;
+		case AUTHOR:
+			authorService.createAuthors(rows.stream()
+					.map(row -> authors.resolve(value(row, NAME), entityManager,
+							name -> new Author(name, value(row, DESCRIPTION))))
+					.collect(Collectors.toList()));
+			break;
+		case CATEGORY:
+			categoryService.createCategories(rows.stream()
+					.map(row -> categories.resolve(value(row, NAME), entityManager, Category::new))
+					.collect(Collectors.toList()));
+			break;
+		case PUBLISHER:
+			publisherService.createPublishers(rows.stream()
+					.map(row -> publishers.resolve(value(row, NAME), entityManager, Publisher::new))
+					.collect(Collectors.toList()));
+			break;
+		}
+	}
+
+	private Book toBook(String[] row) {
+		var book = new Book(value(row, ISBN), value(row, NAME), value(row, SERIAL_NAME), value(row, DESCRIPTION));
+		// only the owning side is linked; the inverse collections are never loaded during an import
+		for (var name : names(row, AUTHORS)) {
+			book.getAuthors().add(authors.resolve(name, entityManager, newName -> new Author(newName, "")));
+		}
+		for (var name : names(row, CATEGORIES)) {
+			book.getCategories().add(categories.resolve(name, entityManager, Category::new));
+		}
+		for (var name : names(row, PUBLISHERS)) {
+			book.getPublishers().add(publishers.resolve(name, entityManager, Publisher::new));
+		}
+		return book;
+	}
+
+	private NameLookup<?> lookup() {
+		switch (item) {
+		case AUTHOR:
+			return authors;
+		case CATEGORY:
+			return categories;
+		default:
+			return publishers;
+		}
+	}
+
+	private String value(String[] row, String column) {
+		var index = columns.get(column);
+		return index == null || index >= row.length ? "" : row[index].trim();
+	}
+
+	private List<String> names(String[] row, String column) {
+		return Arrays.stream(NAME_SEPARATOR.split(value(row, column))).map(String::trim)
+				.filter(name -> !name.isEmpty()).distinct().collect(Collectors.toList());
+	}
+
+	private void reject(long line, String message) {
+		rejected++;
+		if (errors.size() < MAX_REPORTED_ERRORS) {
+			errors.add(new ImportError(line, message));
+		}
+	}
+
+	private ImportReport report() {
+		return new ImportReport(item.getName(), imported, rejected, List.copyOf(errors));
+	}
+
+}
@@ -1,33 +1,42 @@
 package com.knf.dev.librarymanagementsystem.service.impl;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
+import javax.persistence.EntityManager;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.knf.dev.librarymanagementsystem.constant.Item;
+import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
 import com.knf.dev.librarymanagementsystem.service.AuthorService;
 import com.knf.dev.librarymanagementsystem.service.BookService;
 import com.knf.dev.librarymanagementsystem.service.CategoryService;
+import com.knf.dev.librarymanagementsystem.service.CsvExport;
 import com.knf.dev.librarymanagementsystem.service.FileService;
 import com.knf.dev.librarymanagementsystem.service.PublisherService;
-import com.knf.dev.librarymanagementsystem.util.Mapper;
-import com.knf.dev.librarymanagementsystem.vo.AuthorRecord;
-import com.knf.dev.librarymanagementsystem.vo.BookRecord;
-import com.knf.dev.librarymanagementsystem.vo.CategoryRecord;
-import com.knf.dev.librarymanagementsystem.vo.PublisherRecord;
+import com.knf.dev.librarymanagementsystem.vo.ImportReport;
+import com.opencsv.CSVReader;
 import com.opencsv.CSVWriter;
-import com.opencsv.bean.StatefulBeanToCsv;
-import com.opencsv.bean.StatefulBeanToCsvBuilder;
-import com.opencsv.exceptions.CsvDataTypeMismatchException;
-import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import com.opencsv.exceptions.CsvValidationException;
 
 @Service
 public class FileServiceImpl implements FileService {
 
+	// rows written between flushes of the response
+	static final int FLUSH_INTERVAL = 500;
+
 	private final BookService bookService;
 
 	private final AuthorService authorService;
@@ -36,45 +45,93 @@ public class FileServiceImpl implements FileService {
 
 	private final CategoryService categoryService;
 
-	public FileServiceImpl(BookService bookService, AuthorService authorService, PublisherService publisherService,
-			CategoryService categoryService) {
+	private final EntityManager entityManager;
+
+	private final PlatformTransactionManager transactionManager;
+
+	private final Map<Item, CsvExport<?>> exports;
+
+	public FileServiceImpl(List<CsvExport<?>> exports, BookService bookService, AuthorService authorService,
+			PublisherService publisherService, CategoryService categoryService, EntityManager entityManager,
+			PlatformTransactionManager transactionManager) {
 		this.authorService = authorService;
 		this.categoryService = categoryService;
 		this.publisherService = publisherService;
 		this.bookService = bookService;
+		this.entityManager = entityManager;
+		this.transactionManager = transactionManager;
+		this.exports = byItem(exports);
+	}
+
+	/**
+	 * The export beans keyed by their item, looked up rather than switched
+	 * on. An item without an export bean is not found.
+	 */
+	private static Map<Item, CsvExport<?>> byItem(List<CsvExport<?>> exports) {
+		var byItem = new EnumMap<Item, CsvExport<?>>(Item.class);
+		for (var export : exports) {
+			if (byItem.putIfAbsent(export.item(), export) != null) {
+				throw new IllegalStateException("More than one export for " + export.item());
+			}
+		}
+		return Collections.unmodifiableMap(byItem);
 	}
 
+	/**
+	 * Unknown names fail with {@link NotFoundException} before anything is
+	 * written, so the response can still become a 404.
+	 */
+	@Transactional(readOnly = true)
 	@Override
-	public void exportCSV(String fileName, HttpServletResponse response)
-			throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException, IOException {
-		var item = Item.getItemByValue(fileName);
+	public void exportCSV(String fileName, HttpServletResponse response) throws IOException {
+		var item = Item.getItemByValue(fileName).filter(exports::containsKey)
+				.orElseThrow(() -> new NotFoundException(String.format("No export for %s", fileName)));
 		response.setContentType("text/csv");
-		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
-				"attachment; filename=\"" + item.get().getFileName() + "\"");
-
-		switch (item.get()) {
-		case BOOK:
-			StatefulBeanToCsv<BookRecord> writer1 = getWriter(response.getWriter());
-			writer1.write(Mapper.bookModelToVo(bookService.findAllBooks()));
-			break;
-		case AUTHOR:
-			StatefulBeanToCsv<AuthorRecord> writer2 = getWriter(response.getWriter());
-			writer2.write(Mapper.authorModelToVo(authorService.findAllAuthors()));
-			break;
-		case CATEGORY:
-			StatefulBeanToCsv<CategoryRecord> writer3 = getWriter(response.getWriter());
-			writer3.write(Mapper.categoryModelToVo(categoryService.findAllCategories()));
-			break;
-		case PUBLISHER:
-			StatefulBeanToCsv<PublisherRecord> writer4 = getWriter(response.getWriter());
-			writer4.write(Mapper.publisherModelToVo(publisherService.findAllPublishers()));
-			break;
-		}
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + item.getFileName() + "\"");
+		writeAll(response.getWriter(), exports.get(item));
+	}
 
+	/**
+	 * Not transactional itself: the import commits one chunk at a time, so a
+	 * bad chunk late in a large file does not undo the rows before it.
+	 */
+	@Override
+	public ImportReport importCSV(String fileName, InputStream csv) throws IOException {
+		var item = Item.getItemByValue(fileName)
+				.orElseThrow(() -> new NotFoundException(String.format("No import for %s", fileName)));
+		try (var reader = new CSVReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+			return new CsvImport(item, bookService, authorService, categoryService, publisherService, entityManager,
+					transactionManager).run(reader);
+		} catch (CsvValidationException e) {
+			throw new IOException(e.getMessage(), e);
+		}
 	}
 
-	private static <T> StatefulBeanToCsv<T> getWriter(PrintWriter printWriter) {
-		return new StatefulBeanToCsvBuilder<T>(printWriter).withQuotechar(CSVWriter.NO_QUOTE_CHARACTER)
-				.withSeparator(CSVWriter.DEFAULT_SEPARATOR).withOrderedResults(false).build();
+	/**
+	 * Writes records as they come off the cursor, flushing the response after
+	 * the first row and then every {@link #FLUSH_INTERVAL} rows. The records
+	 * are projections, not entities, so nothing accumulates in the persistence
+	 * context and memory stays flat however large the table is. Each record is
+	 * copied into the same row array, so there is no reflection and no array
+	 * per row; the header goes out with the first row, as it always has.
+	 */
+	private static <T> void writeAll(PrintWriter printWriter, CsvExport<T> export) {
+		var writer = new CSVWriter(printWriter, CSVWriter.DEFAULT_SEPARATOR, CSVWriter.NO_QUOTE_CHARACTER,
+				CSVWriter.DEFAULT_ESCAPE_CHARACTER, CSVWriter.DEFAULT_LINE_END);
+		var header = export.header();
+		var row = new String[header.length];
+		var rows = 0;
+		try (var records = export.records()) {
+			for (var iterator = records.iterator(); iterator.hasNext();) {
+				if (rows == 0) {
+					writer.writeNext(header, false);
+				}
+				writer.writeNext(export.toRow(iterator.next(), row), false);
+				if (++rows == 1 || rows % FLUSH_INTERVAL == 0) {
+					printWriter.flush();
+				}
+			}
+		}
+		printWriter.flush();
 	}
 }
@@ -0,0 +1,59 @@
+package com.knf.dev.librarymanagementsystem.service.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.persistence.EntityManager;
+
+/**
+ * Name to id index of one reference table, kept for the length of an import
+ * so every row resolves its author, category or publisher without a query.
+ * Entities created for names seen for the first time stay pending until the
+ * chunk that persists them commits.
+ */
+class NameLookup<T> {
+
+	private final Class<T> type;
+
+	private final Function<T, Long> id;
+
+	private final Map<String, Long> ids = new HashMap<>();
+
+	private final Map<String, T> pending = new HashMap<>();
+
+	NameLookup(Class<T> type, Function<T, Long> id) {
+		this.type = type;
+		this.id = id;
+	}
+
+	void put(String name, Long id) {
+		ids.put(name, id);
+	}
+
+	boolean contains(String name) {
+		return ids.containsKey(name) || pending.containsKey(name);
+	}
+
+	/**
+	 * The entity for {@code name}: a reference to the stored row, the entity
+	 * already pending in this chunk, or a new one from {@code factory}.
+	 */
+	T resolve(String name, EntityManager entityManager, Function<String, T> factory) {
+		var stored = ids.get(name);
+		if (stored != null) {
+			return entityManager.getReference(type, stored);
+		}
+		return pending.computeIfAbsent(name, factory);
+	}
+
+	void commit() {
+		pending.forEach((name, entity) -> ids.put(name, id.apply(entity)));
+		pending.clear();
+	}
+
+	void rollback() {
+		pending.clear();
+	}
+
+}
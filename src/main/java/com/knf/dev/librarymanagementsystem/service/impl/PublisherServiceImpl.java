@@ -1,23 +1,36 @@
 package com.knf.dev.librarymanagementsystem.service.impl;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.knf.dev.librarymanagementsystem.constant.Item;
 import com.knf.dev.librarymanagementsystem.entity.Publisher;
 import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
 import com.knf.dev.librarymanagementsystem.repository.PublisherRepository;
 import com.knf.dev.librarymanagementsystem.service.PublisherService;
+import com.knf.dev.librarymanagementsystem.util.CatalogVersions;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.PublisherRecord;
 
 @Service
 public class PublisherServiceImpl implements PublisherService {
 
 	private final PublisherRepository publisherRepository;
 
-	public PublisherServiceImpl(PublisherRepository publisherRepository) {
+	private final Paginator<PublisherRecord> paginator;
+
+	private final CatalogVersions catalogVersions;
+
+	public PublisherServiceImpl(PublisherRepository publisherRepository, CatalogVersions catalogVersions) {
 		this.publisherRepository = publisherRepository;
+		this.paginator = new Paginator<>(publisherRepository);
+		this.catalogVersions = catalogVersions;
 	}
 
 	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
@@ -26,6 +39,12 @@ public class PublisherServiceImpl implements PublisherService {
 		return publisherRepository.findAll();
 	}
 
+	@Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+	@Override
+	public Stream<PublisherRecord> streamAllPublishers() {
+		return publisherRepository.streamRecordsBy();
+	}
+
 	@Override
 	public Publisher findPublisherById(Long id) {
 		return publisherRepository.findById(id)
@@ -35,11 +54,21 @@ public class PublisherServiceImpl implements PublisherService {
 	@Override
 	public void createPublisher(Publisher publisher) {
 		publisherRepository.save(publisher);
+		catalogVersions.bump(Item.PUBLISHER);
+		paginator.invalidateCount();
+	}
+
+	@Override
+	public void createPublishers(List<Publisher> publishers) {
+		publisherRepository.saveAll(publishers);
+		catalogVersions.bump(Item.PUBLISHER);
+		paginator.invalidateCount();
 	}
 
 	@Override
 	public void updatePublisher(Publisher publisher) {
 		publisherRepository.save(publisher);
+		catalogVersions.bump(Item.PUBLISHER);
 	}
 
 	@Override
@@ -48,6 +77,14 @@ public class PublisherServiceImpl implements PublisherService {
 				.orElseThrow(() -> new NotFoundException(String.format("Publisher not found  with ID %d", id)));
 
 		publisherRepository.deleteById(publisher.getId());
+		catalogVersions.bump(Item.PUBLISHER);
+		paginator.invalidateCount();
+	}
+
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	@Override
+	public Page<PublisherRecord> findPaginated(Pageable pageable) {
+		return paginator.findPage(pageable);
 	}
 
 }
@@ -1,5 +1,6 @@
 package com.knf.dev.librarymanagementsystem.service.impl;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.stream.Collectors;
 
@@ -9,26 +10,80 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.knf.dev.librarymanagementsystem.entity.Role;
 import com.knf.dev.librarymanagementsystem.repository.UserRepository;
 import com.knf.dev.librarymanagementsystem.service.UserService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
 @Service
-public class UserServiceImpl implements UserService {
+public class UserServiceImpl implements UserService, MeterBinder {
+
+	static final int MAX_CACHED_USERS = 10_000;
+
+	// upper bound on how long a change made behind evictUser's back stays invisible
+	static final Duration CACHED_USER_TTL = Duration.ofMinutes(5);
 
 	private final UserRepository userRepository;
 
+	private final LoadingCache<String, UserDetails> users;
+
 	public UserServiceImpl(UserRepository userRepository) {
 		this.userRepository = userRepository;
+		this.users = Caffeine.newBuilder().maximumSize(MAX_CACHED_USERS).expireAfterWrite(CACHED_USER_TTL)
+				.recordStats().build(this::findUser);
 	}
 
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-		var user = userRepository.findByEmail(username);
+		var user = users.get(username);
 		if (user == null) {
 			throw new UsernameNotFoundException("Invalid username or password.");
 		}
+		// a copy: the authentication manager erases the password of the instance it is handed
+		return org.springframework.security.core.userdetails.User.withUserDetails(user).build();
+	}
+
+	/**
+	 * Stores a password re-encoded during login, when the stored hash used an
+	 * outdated encoder or strength.
+	 */
+	@Override
+	public UserDetails updatePassword(UserDetails details, String newPassword) {
+		var user = userRepository.findByEmail(details.getUsername());
+		user.setPassword(newPassword);
+		userRepository.save(user);
+		evictUser(user.getEmail());
+		return org.springframework.security.core.userdetails.User.withUserDetails(details).password(newPassword)
+				.build();
+	}
+
+	@Override
+	public void evictUser(String email) {
+		users.invalidate(email);
+	}
+
+	/**
+	 * Publishes the user cache as {@code cache.*} meters tagged
+	 * {@code cache=users}: hits and misses, evictions, and the count and
+	 * total time of database loads.
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, users, "users");
+	}
+
+	// unknown emails load as null, which Caffeine does not cache
+	private UserDetails findUser(String email) {
+		var user = userRepository.findByEmail(email);
+		if (user == null) {
+			return null;
+		}
 		return new org.springframework.security.core.userdetails.User(user.getEmail(), user.getPassword(),
 				mapRolesToAuthorities(user.getRoles()));
 	}
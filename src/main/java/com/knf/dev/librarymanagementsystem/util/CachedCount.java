@@ -0,0 +1,35 @@
+package com.knf.dev.librarymanagementsystem.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Row count that is reloaded at most once per time-to-live window, so paged
+ * list screens do not run a full {@code COUNT(*)} on every request. Writers
+ * call {@link #invalidate()} when they add or remove rows.
+ */
+public class CachedCount {
+
+	private final long ttlMillis;
+
+	private volatile long value = -1;
+
+	private volatile long loadedAt;
+
+	public CachedCount(long ttlMillis) {
+		this.ttlMillis = ttlMillis;
+	}
+
+	public long get(LongSupplier loader) {
+		var now = System.currentTimeMillis();
+		if (value < 0 || now - loadedAt > ttlMillis) {
+			value = loader.getAsLong();
+			loadedAt = now;
+		}
+		return value;
+	}
+
+	public void invalidate() {
+		value = -1;
+	}
+
+}
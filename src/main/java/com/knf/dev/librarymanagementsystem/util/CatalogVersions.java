@@ -0,0 +1,64 @@
+package com.knf.dev.librarymanagementsystem.util;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.knf.dev.librarymanagementsystem.constant.Item;
+
+/**
+ * Change counter per catalog table, bumped by the service write methods once
+ * their changes are committed. A page built only from tables whose counters
+ * have not moved is unchanged, so a conditional GET for it can be answered
+ * from the counters alone. Counters are kept in memory and start over with
+ * the application; the start time is part of every tag, so tags from an
+ * earlier run never match.
+ */
+@Component
+public class CatalogVersions {
+
+	private final long startedAt = System.currentTimeMillis();
+
+	private final Map<Item, AtomicLong> versions = new EnumMap<>(Item.class);
+
+	public CatalogVersions() {
+		for (var item : Item.values()) {
+			versions.put(item, new AtomicLong());
+		}
+	}
+
+	/**
+	 * Records a change to the given tables, after the surrounding transaction
+	 * commits if there is one; bumping earlier would let a reader tag the old
+	 * rows with the new version.
+	 */
+	public void bump(Item... items) {
+		Transactions.afterCommit(() -> increment(items));
+	}
+
+	public long version(Item item) {
+		return versions.get(item).get();
+	}
+
+	/**
+	 * Strong entity tag over the given tables. {@code variant} separates
+	 * representations of the same state, such as pages rendered for different
+	 * users.
+	 */
+	public String etag(Collection<Item> items, String variant) {
+		var counters = items.stream().map(item -> Long.toString(version(item), 36)).collect(Collectors.joining("."));
+		return String.format("\"%s-%s-%x\"", Long.toString(startedAt, 36), counters,
+				variant == null ? 0 : variant.hashCode());
+	}
+
+	private void increment(Item... items) {
+		for (var item : items) {
+			versions.get(item).incrementAndGet();
+		}
+	}
+
+}
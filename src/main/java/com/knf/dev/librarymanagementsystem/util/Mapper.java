@@ -1,7 +1,9 @@
 package com.knf.dev.librarymanagementsystem.util;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
+import java.util.function.Function;
 
 import com.knf.dev.librarymanagementsystem.entity.Author;
 import com.knf.dev.librarymanagementsystem.entity.Book;
@@ -12,42 +14,111 @@ import com.knf.dev.librarymanagementsystem.vo.BookRecord;
 import com.knf.dev.librarymanagementsystem.vo.CategoryRecord;
 import com.knf.dev.librarymanagementsystem.vo.PublisherRecord;
 
+/**
+ * Entity to record conversion, plus the CSV rows of the exports. Lists are
+ * converted into a list of exactly their size, and CSV rows are filled into
+ * an array the caller reuses for every row, so an export allocates nothing
+ * per row but the strings of its numeric columns.
+ */
 public class Mapper {
 
 	public static List<BookRecord> bookModelToVo(List<Book> books) {
+		return toList(books, Mapper::bookModelToVo);
+	}
 
-		return books.stream().map(vo -> {
-			var bookVo = new BookRecord(vo.getId(), vo.getIsbn(), vo.getName(), vo.getSerialName(),
-					vo.getDescription());
-			return bookVo;
-		}).collect(Collectors.toList());
+	public static BookRecord bookModelToVo(Book book) {
+		return new BookRecord(book.getId(), book.getIsbn(), book.getName(), book.getSerialName(),
+				book.getDescription());
 	}
 
 	public static List<AuthorRecord> authorModelToVo(List<Author> authors) {
+		return toList(authors, Mapper::authorModelToVo);
+	}
 
-		return authors.stream().map(vo -> {
-			var authorVo = new AuthorRecord(vo.getId(), vo.getName(), vo.getDescription());
-			return authorVo;
-		}).collect(Collectors.toList());
-
+	public static AuthorRecord authorModelToVo(Author author) {
+		return new AuthorRecord(author.getId(), author.getName(), author.getDescription());
 	}
 
 	public static List<CategoryRecord> categoryModelToVo(List<Category> categories) {
+		return toList(categories, Mapper::categoryModelToVo);
+	}
 
-		return categories.stream().map(vo -> {
-			var categoryVo = new CategoryRecord(vo.getId(), vo.getName());
-			return categoryVo;
-		}).collect(Collectors.toList());
-
+	public static CategoryRecord categoryModelToVo(Category category) {
+		return new CategoryRecord(category.getId(), category.getName());
 	}
 
 	public static List<PublisherRecord> publisherModelToVo(List<Publisher> publishers) {
+		return toList(publishers, Mapper::publisherModelToVo);
+	}
+
+	public static PublisherRecord publisherModelToVo(Publisher publisher) {
+		return new PublisherRecord(publisher.getId(), publisher.getName());
+	}
+
+	// CSV columns are in the alphabetical order the exports have always had
+
+	public static String[] bookCsvHeader() {
+		return new String[] { "DESCRIPTION", "ID", "ISBN", "NAME", "SERIALNAME" };
+	}
+
+	public static String[] bookToCsvRow(BookRecord book, String[] row) {
+		row[0] = book.description();
+		row[1] = toString(book.id());
+		row[2] = book.isbn();
+		row[3] = book.name();
+		row[4] = book.serialName();
+		return row;
+	}
 
-		return publishers.stream().map(vo -> {
-			var publisherVo = new PublisherRecord(vo.getId(), vo.getName());
-			return publisherVo;
-		}).collect(Collectors.toList());
+	public static String[] authorCsvHeader() {
+		return new String[] { "DESCRIPTION", "ID", "NAME" };
+	}
+
+	public static String[] authorToCsvRow(AuthorRecord author, String[] row) {
+		row[0] = author.description();
+		row[1] = toString(author.id());
+		row[2] = author.name();
+		return row;
+	}
+
+	public static String[] categoryCsvHeader() {
+		return new String[] { "ID", "NAME" };
+	}
+
+	public static String[] categoryToCsvRow(CategoryRecord category, String[] row) {
+		row[0] = toString(category.id());
+		row[1] = category.name();
+		return row;
+	}
+
+	public static String[] publisherCsvHeader() {
+		return new String[] { "ID", "NAME" };
+	}
+
+	public static String[] publisherToCsvRow(PublisherRecord publisher, String[] row) {
+		row[0] = toString(publisher.id());
+		row[1] = publisher.name();
+		return row;
+	}
+
+	// an indexed loop over random access lists, so no iterator either
+	private static <T, R> List<R> toList(List<T> models, Function<T, R> mapping) {
+		var size = models.size();
+		var records = new ArrayList<R>(size);
+		if (models instanceof RandomAccess) {
+			for (int i = 0; i < size; i++) {
+				records.add(mapping.apply(models.get(i)));
+			}
+		} else {
+			for (var model : models) {
+				records.add(mapping.apply(model));
+			}
+		}
+		return records;
+	}
 
+	private static String toString(Long id) {
+		return id == null ? null : Long.toString(id.longValue());
 	}
 
 }
@@ -0,0 +1,92 @@
+package com.knf.dev.librarymanagementsystem.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import com.knf.dev.librarymanagementsystem.repository.PagingRepository;
+import com.knf.dev.librarymanagementsystem.vo.KeysetCursor;
+
+/**
+ * Paging engine shared by the catalog services, producing pages of the
+ * repository's read-only records. Offset pages read one bounded slice and
+ * take their total from a {@link CachedCount}; keyset slices seek past a
+ * {@link KeysetCursor} and never count at all.
+ */
+public class Paginator<T> {
+
+	private static final long COUNT_TTL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+	private static final int PAGE_LINK_WINDOW = 5;
+
+	private static final int MAX_PAGE_SIZE = 100;
+
+	private final PagingRepository<?, T> repository;
+
+	private final CachedCount count = new CachedCount(COUNT_TTL_MILLIS);
+
+	public Paginator(PagingRepository<?, T> repository) {
+		this.repository = repository;
+	}
+
+	public Page<T> findPage(Pageable pageable) {
+		var pageRequest = pageable.getSort().isSorted() ? pageable
+				: PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(KeysetCursor.SORT_ID));
+		var slice = repository.findRecordsBy(pageRequest);
+		return new PageImpl<>(slice.getContent(), pageRequest, count.get(repository::count));
+	}
+
+	public Slice<T> findSliceAfter(KeysetCursor cursor, int pageSize) {
+		pageSize = clampSize(pageSize);
+		// one extra row tells us whether a next page exists without counting
+		var limit = PageRequest.of(0, pageSize + 1);
+		var rows = cursor.sortedByName() ? repository.findRecordsAfterName(cursor.name(), cursor.id(), limit)
+				: repository.findRecordsAfterId(cursor.id(), limit);
+
+		var hasNext = rows.size() > pageSize;
+		var content = hasNext ? rows.subList(0, pageSize) : rows;
+		return new SliceImpl<>(content, PageRequest.of(0, pageSize), hasNext);
+	}
+
+	public void invalidateCount() {
+		count.invalidate();
+	}
+
+	/**
+	 * Builds the request for a 1-based page number, clamping the page size so a
+	 * crafted {@code size} parameter cannot ask for the whole table.
+	 */
+	public static PageRequest pageRequest(int page, int size, String sort) {
+		return PageRequest.of(Math.max(page, 1) - 1, clampSize(size),
+				KeysetCursor.SORT_NAME.equals(sort) ? Sort.by(KeysetCursor.SORT_NAME, KeysetCursor.SORT_ID)
+						: Sort.by(KeysetCursor.SORT_ID));
+	}
+
+	/**
+	 * A requested page size brought into 1 to {@value #MAX_PAGE_SIZE}, for
+	 * offset pages and keyset slices alike.
+	 */
+	public static int clampSize(int size) {
+		return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+	}
+
+	/**
+	 * Page links around the current page; listing every page would make the
+	 * rendered page O(catalog).
+	 */
+	public static List<Integer> pageNumbers(int currentPage, int totalPages) {
+		var first = Math.max(1, currentPage - PAGE_LINK_WINDOW);
+		var last = Math.min(totalPages, currentPage + PAGE_LINK_WINDOW);
+		return IntStream.rangeClosed(first, last).boxed().collect(Collectors.toList());
+	}
+
+}
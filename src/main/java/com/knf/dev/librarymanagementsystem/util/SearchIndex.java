@@ -0,0 +1,270 @@
+package com.knf.dev.librarymanagementsystem.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * In-memory inverted index over a few text fields per document. Terms are
+ * case- and accent-folded; a query term matches a document exactly, as a
+ * prefix of an indexed term, or (three characters and up) as a substring via
+ * a trigram index. Every query term must match, and results are ranked by
+ * the summed field weights of the match kinds. A prefix that expands to more
+ * than {@link #MAX_PREFIX_TERMS} indexed terms only matches through the
+ * first of them, and the page it returns is flagged as truncated.
+ */
+public class SearchIndex {
+
+	private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+	private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+	private static final int GRAM = 3;
+
+	private static final int EXACT_BOOST = 4;
+
+	private static final int PREFIX_BOOST = 2;
+
+	private static final int SUBSTRING_BOOST = 1;
+
+	// bounds the work a one-letter prefix can trigger on a large catalog
+	static final int MAX_PREFIX_TERMS = 256;
+
+	private final int[] fieldWeights;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<Long, List<String>> documents = new HashMap<>();
+
+	private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+
+	private final Map<String, Set<Long>> grams = new HashMap<>();
+
+	public SearchIndex(int... fieldWeights) {
+		this.fieldWeights = fieldWeights;
+	}
+
+	public void put(Long id, String... fields) {
+		lock.writeLock().lock();
+		try {
+			removeDocument(id);
+			var terms = new ArrayList<String>();
+			for (int i = 0; i < fields.length && i < fieldWeights.length; i++) {
+				for (var term : tokenize(fields[i])) {
+					postings.computeIfAbsent(term, t -> new HashMap<>()).merge(id, fieldWeights[i], Integer::sum);
+					for (var gram : grams(term)) {
+						grams.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+					}
+					terms.add(term);
+				}
+			}
+			documents.put(id, terms);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long id) {
+		lock.writeLock().lock();
+		try {
+			removeDocument(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			documents.clear();
+			postings.clear();
+			grams.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Ranked document ids for the given page. Only the top
+	 * {@code offset + pageSize} hits are ordered; the total is the number of
+	 * matching documents, or a lower bound of it when the page is truncated.
+	 */
+	public SearchPage<Long> search(String query, Pageable pageable) {
+		var queryTerms = tokenize(query);
+		if (queryTerms.isEmpty()) {
+			return SearchPage.empty(pageable);
+		}
+
+		Map<Long, Integer> scores;
+		var truncated = false;
+		lock.readLock().lock();
+		try {
+			scores = null;
+			for (var queryTerm : queryTerms) {
+				var termScores = new HashMap<Long, Integer>();
+				truncated |= score(queryTerm, termScores);
+				if (scores == null) {
+					scores = termScores;
+				} else {
+					scores.keySet().retainAll(termScores.keySet());
+					scores.replaceAll((id, score) -> score + termScores.get(id));
+				}
+				if (scores.isEmpty()) {
+					return new SearchPage<>(List.of(), pageable, 0, truncated);
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		return new SearchPage<>(top(scores, pageable), pageable, scores.size(), truncated);
+	}
+
+	/**
+	 * Adds the documents matching one query term to {@code scores}; true if
+	 * the prefix expansion was cut off.
+	 */
+	private boolean score(String queryTerm, Map<Long, Integer> scores) {
+		var exact = postings.get(queryTerm);
+		if (exact != null) {
+			exact.forEach((id, weight) -> scores.merge(id, weight * EXACT_BOOST, Integer::sum));
+		}
+
+		var truncated = false;
+		var expanded = 0;
+		for (var entry : postings.subMap(queryTerm, false, queryTerm + Character.MAX_VALUE, false).entrySet()) {
+			if (++expanded > MAX_PREFIX_TERMS) {
+				truncated = true;
+				break;
+			}
+			entry.getValue().forEach((id, weight) -> scores.merge(id, weight * PREFIX_BOOST, Math::max));
+		}
+
+		if (queryTerm.length() >= GRAM) {
+			for (var id : substringCandidates(queryTerm)) {
+				if (!scores.containsKey(id)
+						&& documents.get(id).stream().anyMatch(term -> term.contains(queryTerm))) {
+					scores.put(id, SUBSTRING_BOOST);
+				}
+			}
+		}
+		return truncated;
+	}
+
+	private Set<Long> substringCandidates(String queryTerm) {
+		Set<Long> candidates = null;
+		for (var gram : grams(queryTerm)) {
+			var ids = grams.get(gram);
+			if (ids == null) {
+				return Collections.emptySet();
+			}
+			if (candidates == null) {
+				candidates = new HashSet<>(ids);
+			} else {
+				candidates.retainAll(ids);
+			}
+		}
+		return candidates == null ? Collections.emptySet() : candidates;
+	}
+
+	private static List<Long> top(Map<Long, Integer> scores, Pageable pageable) {
+		var offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+		if (offset >= scores.size()) {
+			return Collections.emptyList();
+		}
+		var limit = Math.min(scores.size(), offset + pageable.getPageSize());
+
+		Comparator<Map.Entry<Long, Integer>> ranking = Map.Entry.<Long, Integer>comparingByValue().reversed()
+				.thenComparing(Map.Entry.comparingByKey());
+		var heap = new PriorityQueue<Map.Entry<Long, Integer>>(limit + 1, ranking.reversed());
+		for (var entry : scores.entrySet()) {
+			heap.offer(entry);
+			if (heap.size() > limit) {
+				heap.poll();
+			}
+		}
+
+		var ranked = new ArrayList<Long>(heap.size());
+		while (!heap.isEmpty()) {
+			ranked.add(heap.poll().getKey());
+		}
+		Collections.reverse(ranked);
+		return ranked.subList(offset, ranked.size());
+	}
+
+	private void removeDocument(Long id) {
+		var terms = documents.remove(id);
+		if (terms == null) {
+			return;
+		}
+		for (var term : terms) {
+			var docs = postings.get(term);
+			if (docs != null) {
+				docs.remove(id);
+				if (docs.isEmpty()) {
+					postings.remove(term);
+				}
+			}
+			for (var gram : grams(term)) {
+				var ids = grams.get(gram);
+				if (ids != null) {
+					ids.remove(id);
+					if (ids.isEmpty()) {
+						grams.remove(gram);
+					}
+				}
+			}
+		}
+	}
+
+	static List<String> tokenize(String text) {
+		if (text == null || text.isBlank()) {
+			return Collections.emptyList();
+		}
+		var folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+				.toLowerCase(Locale.ROOT);
+		var tokens = new ArrayList<String>();
+		for (var token : TOKEN_SEPARATOR.split(folded)) {
+			if (!token.isEmpty()) {
+				tokens.add(token);
+			}
+		}
+		return tokens;
+	}
+
+	private static Set<String> grams(String term) {
+		if (term.length() < GRAM) {
+			return Collections.emptySet();
+		}
+		var result = new HashSet<String>();
+		for (int i = 0; i + GRAM <= term.length(); i++) {
+			result.add(term.substring(i, i + GRAM));
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.knf.dev.librarymanagementsystem.util;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * A page of search hits. A truncated page comes from a search that stopped
+ * before it had every match, so its total is a lower bound.
+ */
+public class SearchPage<T> extends PageImpl<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final boolean truncated;
+
+	public SearchPage(List<T> content, Pageable pageable, long total, boolean truncated) {
+		super(content, pageable, total);
+		this.truncated = truncated;
+	}
+
+	public static <T> SearchPage<T> empty(Pageable pageable) {
+		return new SearchPage<>(List.of(), pageable, 0, false);
+	}
+
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+}
@@ -0,0 +1,26 @@
+package com.knf.dev.librarymanagementsystem.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class Transactions {
+
+	/**
+	 * Runs the action once the surrounding transaction commits, and never if
+	 * it rolls back; without a transaction it runs at once. For in-memory state
+	 * that mirrors the database and must not show uncommitted rows.
+	 */
+	public static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+}
@@ -0,0 +1,22 @@
+package com.knf.dev.librarymanagementsystem.vo;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import com.knf.dev.librarymanagementsystem.util.SearchPage;
+
+/**
+ * One page of an {@code /api/v1} listing. {@code page} is 1-based, as in the
+ * {@code page} request parameter. {@code truncated} marks a search that
+ * stopped early, whose totals are a lower bound.
+ */
+public record ApiPage<T>(List<T> content, int page, int size, long totalElements, int totalPages,
+		boolean truncated) {
+
+	public static <T> ApiPage<T> of(Page<?> page, List<T> content) {
+		return new ApiPage<>(content, page.getNumber() + 1, page.getSize(), page.getTotalElements(),
+				page.getTotalPages(), page instanceof SearchPage<?> search && search.isTruncated());
+	}
+
+}
@@ -0,0 +1,11 @@
+package com.knf.dev.librarymanagementsystem.vo;
+
+import java.util.List;
+
+/**
+ * A row of the book list: the book's columns and the names of its authors,
+ * categories and publishers.
+ */
+public record BookListRecord(Long id, String isbn, String name, String serialName, String description,
+		List<String> authors, List<String> categories, List<String> publishers) {
+}
@@ -0,0 +1,8 @@
+package com.knf.dev.librarymanagementsystem.vo;
+
+/**
+ * The name of one author, category or publisher of a book, read from the join
+ * tables without loading either entity.
+ */
+public record BookRelationName(Long bookId, String name) {
+}
@@ -0,0 +1,15 @@
+package com.knf.dev.librarymanagementsystem.vo;
+
+import java.util.Map;
+
+/**
+ * State of the connection pool at one moment, with the latency of every
+ * connection acquisition since startup. {@code acquireHistogram} maps each
+ * bucket's upper bound to the number of acquisitions that took at most that
+ * long, so the counts are cumulative.
+ */
+public record ConnectionPoolSnapshot(String pool, int active, int idle, int pending, int total, int maximum,
+		long acquisitions, double acquireMeanMillis, double acquireMaxMillis,
+		Map<String, Double> acquirePercentilesMillis, Map<String, Long> acquireHistogram) {
+
+}
@@ -0,0 +1,5 @@
+package com.knf.dev.librarymanagementsystem.vo;
+
+public record ImportError(long line, String message) {
+
+}
@@ -0,0 +1,11 @@
+package com.knf.dev.librarymanagementsystem.vo;
+
+import java.util.List;
+
+/**
+ * Outcome of a CSV import. Only the first few rejected rows are listed in
+ * {@code errors}; {@code rejected} counts all of them.
+ */
+public record ImportReport(String item, long imported, long rejected, List<ImportError> errors) {
+
+}
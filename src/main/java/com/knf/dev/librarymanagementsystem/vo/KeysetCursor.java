@@ -0,0 +1,60 @@
+package com.knf.dev.librarymanagementsystem.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for seek (keyset) pagination. The cursor remembers
+ * the sort key and the (name, id) of the last row that was rendered, so the
+ * next page is a bounded index range scan instead of an OFFSET skip.
+ */
+public record KeysetCursor(String sort, Long id, String name) {
+
+	public static final String SORT_ID = "id";
+	public static final String SORT_NAME = "name";
+
+	private static final String SEPARATOR = "\u0000";
+
+	public KeysetCursor {
+		sort = SORT_NAME.equals(sort) ? SORT_NAME : SORT_ID;
+		id = id == null ? 0L : id;
+		name = name == null ? "" : name;
+	}
+
+	public static KeysetCursor start(String sort) {
+		return new KeysetCursor(sort, 0L, "");
+	}
+
+	public KeysetCursor next(Long id, String name) {
+		return new KeysetCursor(sort, id, name);
+	}
+
+	public boolean sortedByName() {
+		return SORT_NAME.equals(sort);
+	}
+
+	public String encode() {
+		var raw = sort + SEPARATOR + id + SEPARATOR + name;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a token produced by {@link #encode()}. A blank or tampered token
+	 * restarts the listing from the beginning rather than failing the request.
+	 */
+	public static KeysetCursor decode(String token, String sort) {
+		if (token == null || token.isBlank()) {
+			return start(sort);
+		}
+		try {
+			var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			var parts = raw.split(SEPARATOR, 3);
+			if (parts.length != 3) {
+				return start(sort);
+			}
+			return new KeysetCursor(parts[0], Long.valueOf(parts[1]), parts[2]);
+		} catch (IllegalArgumentException e) {
+			return start(sort);
+		}
+	}
+}
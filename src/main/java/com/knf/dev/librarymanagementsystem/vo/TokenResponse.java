@@ -0,0 +1,13 @@
+package com.knf.dev.librarymanagementsystem.vo;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Body of a successful {@code /auth/token} or {@code /auth/refresh} call,
+ * named as in an OAuth 2 token response.
+ */
+public record TokenResponse(@JsonProperty("access_token") String accessToken,
+		@JsonProperty("refresh_token") String refreshToken, @JsonProperty("token_type") String tokenType,
+		@JsonProperty("expires_in") long expiresIn) {
+
+}
@@ -0,0 +1,87 @@
+-- Schema as mapped by the entities; Hibernate validates against it on startup (ddl-auto=validate)
+
+create sequence author_seq start with 1 increment by 50;
+create sequence book_seq start with 1 increment by 50;
+create sequence category_seq start with 1 increment by 50;
+create sequence publisher_seq start with 1 increment by 50;
+create sequence role_seq start with 1 increment by 50;
+create sequence user_seq start with 1 increment by 50;
+
+create table authors (
+    id bigint not null,
+    description varchar(250) not null,
+    name varchar(100) not null,
+    primary key (id),
+    constraint uk_authors_name unique (name)
+);
+
+create table categories (
+    id bigint not null,
+    name varchar(50) not null,
+    primary key (id),
+    constraint uk_categories_name unique (name)
+);
+
+create table publishers (
+    id bigint not null,
+    name varchar(100) not null,
+    primary key (id),
+    constraint uk_publishers_name unique (name)
+);
+
+create table books (
+    id bigint not null,
+    description varchar(250) not null,
+    isbn varchar(50) not null,
+    name varchar(100) not null,
+    serial_name varchar(50) not null,
+    primary key (id),
+    constraint uk_books_isbn unique (isbn)
+);
+
+create table books_authors (
+    book_id bigint not null,
+    author_id bigint not null,
+    primary key (book_id, author_id),
+    constraint fk_books_authors_book foreign key (book_id) references books,
+    constraint fk_books_authors_author foreign key (author_id) references authors
+);
+
+create table books_categories (
+    book_id bigint not null,
+    category_id bigint not null,
+    primary key (book_id, category_id),
+    constraint fk_books_categories_book foreign key (book_id) references books,
+    constraint fk_books_categories_category foreign key (category_id) references categories
+);
+
+create table books_publishers (
+    book_id bigint not null,
+    publisher_id bigint not null,
+    primary key (book_id, publisher_id),
+    constraint fk_books_publishers_book foreign key (book_id) references books,
+    constraint fk_books_publishers_publisher foreign key (publisher_id) references publishers
+);
+
+create table role (
+    id bigint not null,
+    name varchar(255),
+    primary key (id)
+);
+
+create table user (
+    id bigint not null,
+    email varchar(255),
+    first_name varchar(255),
+    last_name varchar(255),
+    password varchar(255),
+    primary key (id),
+    constraint uk_user_email unique (email)
+);
+
+create table users_roles (
+    user_id bigint not null,
+    role_id bigint not null,
+    constraint fk_users_roles_user foreign key (user_id) references user,
+    constraint fk_users_roles_role foreign key (role_id) references role
+);
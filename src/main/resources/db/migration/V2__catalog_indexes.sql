@@ -0,0 +1,10 @@
+-- Indexes for the hot catalog queries; each is declared on its entity as well
+
+-- book list sorted by name, and its keyset continuation (name, id) > (?, ?)
+create index ix_books_name on books (name, id);
+create index ix_books_serial_name on books (serial_name);
+
+-- the primary keys lead with book_id; these serve the inverse side, the books of an author, category or publisher
+create index ix_books_authors_author on books_authors (author_id, book_id);
+create index ix_books_categories_category on books_categories (category_id, book_id);
+create index ix_books_publishers_publisher on books_publishers (publisher_id, book_id);
@@ -0,0 +1,68 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import com.knf.dev.librarymanagementsystem.vo.ConnectionPoolSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Borrows connections by hand and reads the pool endpoint. Runs against its
+ * own in-memory database so its pool counts are not disturbed by other tests.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:connectionpool;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConnectionPoolEndpointTest {
+
+    @Autowired
+    private ConnectionPoolEndpoint endpoint;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void pool_ShouldReportBorrowedConnectionsAndAcquireLatency() throws Exception {
+        ConnectionPoolSnapshot before = endpoint.pool();
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertTrue(connection.isValid(1));
+            ConnectionPoolSnapshot during = endpoint.pool();
+
+            assertEquals("library", during.pool());
+            assertEquals(before.active() + 1, during.active());
+            assertEquals(during.total(), during.active() + during.idle());
+            assertTrue(during.acquisitions() > before.acquisitions());
+        }
+
+        ConnectionPoolSnapshot after = endpoint.pool();
+        assertEquals(10, after.maximum());
+        assertEquals(0, after.pending());
+        assertEquals(3, after.acquirePercentilesMillis().size());
+        // cumulative counts: every acquisition so far finished within the largest bucket
+        assertEquals(after.acquisitions(), after.acquireHistogram().get("5000ms"));
+    }
+
+    @Test
+    @WithMockUser
+    void endpoint_ShouldBeExposedOverHttp() throws Exception {
+        mockMvc.perform(get("/actuator/connectionpool"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pool").value("library"))
+                .andExpect(jsonPath("$.acquireHistogram['1ms']").isNumber());
+    }
+}
@@ -0,0 +1,100 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import com.knf.dev.librarymanagementsystem.entity.Book;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Drives requests through the full filter chain and reads back the service
+ * timers, the per-request JDBC counts and the Prometheus scrape. Runs against
+ * its own in-memory database and with the Prometheus registry that tests
+ * leave out by default.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:requestmetrics;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+@ActiveProfiles("test")
+@WithMockUser
+class RequestMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void apiRequest_ShouldRecordServiceTimeAndStatementCount() throws Exception {
+        bookService.createBook(new Book("metrics-1", "Metrics Book", "M1", "Request metrics test."));
+        long calls = serviceCalls("findPaginated");
+
+        mockMvc.perform(get("/api/v1/books")).andExpect(status().isOk());
+
+        assertEquals(calls + 1, serviceCalls("findPaginated"));
+        DistributionSummary statements = meterRegistry.get("library.http.jdbc.statements")
+                .tag("uri", "/api/v1/books").tag("status", "200").summary();
+        Timer jdbcTime = meterRegistry.get("library.http.jdbc.time").tag("uri", "/api/v1/books").timer();
+        assertEquals(1, statements.count());
+        // the page and its count
+        assertTrue(statements.totalAmount() >= 2, "expected at least 2 statements but was " + statements.totalAmount());
+        assertTrue(jdbcTime.totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void failingServiceCall_ShouldBeTaggedWithException() throws Exception {
+        mockMvc.perform(get("/api/v1/books/{id}", Long.MAX_VALUE)).andExpect(status().isNotFound());
+
+        assertEquals(1, meterRegistry.get("library.service").tag("method", "findBookRecordById")
+                .tag("exception", "NotFoundException").timer().count());
+    }
+
+    @Test
+    void renderedPageHit_ShouldBeTaggedWithItsEndpointAndNoStatements() throws Exception {
+        mockMvc.perform(get("/publishers")).andExpect(status().isOk());
+        mockMvc.perform(get("/publishers")).andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get("library.http.jdbc.statements")
+                .tag("uri", "/publishers").summary();
+        assertEquals(2, statements.count());
+        // the hit adds nothing to what the first render ran
+        assertTrue(statements.max() == statements.totalAmount());
+    }
+
+    @Test
+    void prometheusScrape_ShouldExposeHistograms() throws Exception {
+        mockMvc.perform(get("/api/v1/authors")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(scrape.contains("library_service_seconds_bucket{"));
+        assertTrue(scrape.contains("library_http_jdbc_statements_bucket{"));
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(scrape.contains("uri=\"/api/v1/authors\""));
+    }
+
+    private long serviceCalls(String method) {
+        Timer timer = meterRegistry.find("library.service").tag("class", "BookServiceImpl").tag("method", method)
+                .tag("exception", "none").timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,57 @@
+package com.knf.dev.librarymanagementsystem.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots with the synthetic catalog switched on, as the loadtest profile
+ * does, and checks its size, its fan-out and that the application can still
+ * write books of its own next to the generated ones. Shares its context
+ * with LoadTestHarnessTest.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:synthetic;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "spring.jpa.show-sql=false",
+        "library.synthetic-catalog.enabled=true",
+        "library.synthetic-catalog.books=2000" })
+class SyntheticCatalogLoaderTest {
+
+    private static final int BOOKS = 2000;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private SyntheticCatalogLoader loader;
+
+    @Test
+    void startup_ShouldSeedCatalogWithSkewedFanOut() {
+        assertEquals(BOOKS, count("select count(*) from books where isbn like 'SYN-%'"));
+        assertEquals(BOOKS / 3, count("select count(*) from authors where description = 'Synthetic author.'"));
+        assertEquals(BOOKS, count("select count(*) from books_publishers bp join books b on b.id = bp.book_id "
+                + "where b.isbn like 'SYN-%'"));
+
+        long authorLinks = count("select count(*) from books_authors ba join books b on b.id = ba.book_id "
+                + "where b.isbn like 'SYN-%'");
+        assertTrue(authorLinks > BOOKS * 1.2 && authorLinks < BOOKS * 1.6, "author links " + authorLinks);
+        long busiestAuthor = count("select max(c) from (select count(*) c from books_authors group by author_id)");
+        // three books per author on average; the skew gives the busiest author many times that
+        assertTrue(busiestAuthor >= 15, "busiest author has " + busiestAuthor + " books");
+    }
+
+    @Test
+    void rerun_ShouldLeaveExistingCatalogAlone() {
+        loader.run(new DefaultApplicationArguments());
+
+        assertEquals(BOOKS, count("select count(*) from books where isbn like 'SYN-%'"));
+    }
+
+    private long count(String sql) {
+        return jdbc.queryForObject(sql, Long.class);
+    }
+}
@@ -27,7 +27,9 @@ public class TestSecurityConfig {
                 .and()
                 .formLogin().loginPage("/login").permitAll()
                 .and()
-                .logout().logoutSuccessUrl("/login?logout").permitAll();
+                .logout().logoutSuccessUrl("/login?logout").permitAll()
+                .and()
+                .csrf().disable();
         return http.build();
     }
 }
\ No newline at end of file
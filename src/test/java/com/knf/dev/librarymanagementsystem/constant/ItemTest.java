@@ -0,0 +1,32 @@
+package com.knf.dev.librarymanagementsystem.constant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class ItemTest {
+
+    @Test
+    void getItemByValue_ShouldResolveNamesAndFileNames() {
+        for (Item item : Item.values()) {
+            assertEquals(Optional.of(item), Item.getItemByValue(item.getName()));
+            assertEquals(Optional.of(item), Item.getItemByValue(item.getFileName()));
+        }
+    }
+
+    @Test
+    void getItemByValue_ShouldReturnTheSameOptionalEveryTime() {
+        assertSame(Item.getItemByValue("all-book"), Item.getItemByValue("Book-List.csv"));
+    }
+
+    @Test
+    void getItemByValue_WithUnknownOrNullValue_ShouldBeEmpty() {
+        assertTrue(Item.getItemByValue("all-books").isEmpty());
+        assertTrue(Item.getItemByValue("BOOK").isEmpty());
+        assertTrue(Item.getItemByValue(null).isEmpty());
+    }
+}
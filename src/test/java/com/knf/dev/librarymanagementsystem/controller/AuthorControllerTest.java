@@ -2,6 +2,7 @@ package com.knf.dev.librarymanagementsystem.controller;
 
 import com.knf.dev.librarymanagementsystem.entity.Author;
 import com.knf.dev.librarymanagementsystem.service.AuthorService;
+import com.knf.dev.librarymanagementsystem.vo.AuthorRecord;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,13 +47,14 @@ class AuthorControllerTest {
 
     @Test
     void findAllAuthors_ShouldReturnPagedView() throws Exception {
-        Page<Author> page = new PageImpl<>(Collections.singletonList(testAuthor));
+        Page<AuthorRecord> page = new PageImpl<>(Collections.singletonList(new AuthorRecord(1L, "Test Author", "Famous fiction writer.")));
         when(authorService.findPaginated(any(PageRequest.class))).thenReturn(page);
 
         mockMvc.perform(get("/authors?page=1&size=5"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("list-authors"))
                 .andExpect(model().attributeExists("authors"))
+                .andExpect(model().attribute("sort", "id"))
                 .andExpect(model().attributeExists("pageNumbers"));
     }
 
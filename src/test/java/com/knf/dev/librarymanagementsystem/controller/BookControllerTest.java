@@ -5,6 +5,10 @@ import com.knf.dev.librarymanagementsystem.service.AuthorService;
 import com.knf.dev.librarymanagementsystem.service.BookService;
 import com.knf.dev.librarymanagementsystem.service.CategoryService;
 import com.knf.dev.librarymanagementsystem.service.PublisherService;
+import com.knf.dev.librarymanagementsystem.util.SearchPage;
+import com.knf.dev.librarymanagementsystem.vo.BookListRecord;
+import com.knf.dev.librarymanagementsystem.vo.BookRecord;
+import com.knf.dev.librarymanagementsystem.vo.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -15,6 +19,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.Mockito.*;
@@ -30,6 +35,8 @@ class BookControllerTest {
     private PublisherService publisherService;
 
     private Book testBook;
+    private BookRecord testRecord;
+    private BookListRecord testListRecord;
 
     @BeforeEach
     void setUp() {
@@ -50,11 +57,14 @@ class BookControllerTest {
 
         testBook = new Book("1234567890", "Test Book", "Series 1", "A book for testing");
         testBook.setId(1L);
+        testRecord = new BookRecord(1L, "1234567890", "Test Book", "Series 1", "A book for testing");
+        testListRecord = new BookListRecord(1L, "1234567890", "Test Book", "Series 1", "A book for testing",
+                List.of("Test Author"), List.of(), List.of());
     }
 
     @Test
     void findAllBooks_ShouldReturnPagedList() throws Exception {
-        Page<Book> page = new PageImpl<>(Collections.singletonList(testBook));
+        Page<BookRecord> page = new PageImpl<>(Collections.singletonList(testRecord));
         when(bookService.findPaginated(any(Pageable.class))).thenReturn(page);
 
         mockMvc.perform(get("/books?page=1&size=5"))
@@ -62,17 +72,57 @@ class BookControllerTest {
                 .andExpect(view().name("list-books"))
                 .andExpect(model().attributeExists("books"))
                 .andExpect(model().attributeExists("pageNumbers"));
+
+        verify(bookService).withRelationNames(List.of(testRecord));
+    }
+
+    @Test
+    void findAllBooks_WithCursor_ShouldUseKeysetSlice() throws Exception {
+        KeysetCursor cursor = KeysetCursor.start("id").next(1L, "Test Book");
+        Slice<BookRecord> slice = new SliceImpl<>(Collections.singletonList(testRecord), PageRequest.of(0, 1), true);
+        when(bookService.findSliceAfter(eq(cursor), eq(1))).thenReturn(slice);
+        when(bookService.withRelationNames(List.of(testRecord))).thenReturn(List.of(testListRecord));
+
+        mockMvc.perform(get("/books").param("size", "1").param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("list-books"))
+                .andExpect(model().attribute("books", new SliceImpl<>(List.of(testListRecord), PageRequest.of(0, 1), true)))
+                .andExpect(model().attribute("nextCursor", cursor.encode()))
+                .andExpect(model().attributeDoesNotExist("pageNumbers"));
+
+        verify(bookService, never()).findPaginated(any(Pageable.class));
+    }
+
+    @Test
+    void findAllBooks_WithCursor_ShouldClampPageSize() throws Exception {
+        KeysetCursor cursor = KeysetCursor.start(KeysetCursor.SORT_ID);
+        when(bookService.findSliceAfter(any(KeysetCursor.class), anyInt())).thenReturn(new SliceImpl<>(List.of()));
+
+        mockMvc.perform(get("/books").param("size", "-1").param("cursor", cursor.encode()))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/books").param("size", "1000000").param("cursor", cursor.encode()))
+                .andExpect(status().isOk());
+
+        verify(bookService).findSliceAfter(cursor, 1);
+        verify(bookService).findSliceAfter(cursor, 100);
     }
 
     @Test
     void searchBook_ShouldReturnSearchResults() throws Exception {
-        when(bookService.searchBooks("Test")).thenReturn(Collections.singletonList(testBook));
+        SearchPage<BookRecord> page = new SearchPage<>(List.of(testRecord), Pageable.unpaged(), 1, true);
+        when(bookService.searchPaginated(eq("Test"), any(Pageable.class))).thenReturn(page);
+        when(bookService.withRelationNames(List.of(testRecord))).thenReturn(List.of(testListRecord));
 
-        mockMvc.perform(get("/searchBook").param("keyword", "Test"))
+        mockMvc.perform(get("/searchBook").param("keyword", "Test").param("page", "1").param("size", "500"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("list-books"))
-                .andExpect(model().attributeExists("books"))
-                .andExpect(model().attribute("keyword", "Test"));
+                .andExpect(model().attribute("books", new PageImpl<>(List.of(testListRecord))))
+                .andExpect(model().attributeExists("pageNumbers"))
+                .andExpect(model().attribute("keyword", "Test"))
+                .andExpect(model().attribute("truncated", true));
+
+        verify(bookService).searchPaginated("Test", PageRequest.of(0, 100, Sort.by("id")));
+        verify(bookService, never()).searchBooks(any());
     }
 
     @Test
@@ -101,14 +151,13 @@ class BookControllerTest {
 
     @Test
     void createBook_Valid_ShouldRedirect() throws Exception {
-        when(bookService.findAllBooks()).thenReturn(Collections.singletonList(testBook));
-
         mockMvc.perform(post("/add-book")
                         .flashAttr("book", testBook))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/books"));
 
         verify(bookService).createBook(any(Book.class));
+        verify(bookService, never()).findAllBooks();
     }
 
     @Test
@@ -134,14 +183,13 @@ class BookControllerTest {
 
     @Test
     void updateBook_Valid_ShouldRedirect() throws Exception {
-        when(bookService.findAllBooks()).thenReturn(Collections.singletonList(testBook));
-
         mockMvc.perform(post("/update-book/1")
                         .flashAttr("book", testBook))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/books"));
 
         verify(bookService).updateBook(any(Book.class));
+        verify(bookService, never()).findAllBooks();
     }
 
     @Test
@@ -159,12 +207,11 @@ class BookControllerTest {
 
     @Test
     void deleteBook_ShouldRedirect() throws Exception {
-        when(bookService.findAllBooks()).thenReturn(Collections.singletonList(testBook));
-
         mockMvc.perform(get("/remove-book/1"))
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/books"));
 
         verify(bookService).deleteBook(1L);
+        verify(bookService, never()).findAllBooks();
     }
 }
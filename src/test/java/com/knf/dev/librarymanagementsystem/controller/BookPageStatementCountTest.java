@@ -0,0 +1,92 @@
+package com.knf.dev.librarymanagementsystem.controller;
+
+import com.knf.dev.librarymanagementsystem.entity.Author;
+import com.knf.dev.librarymanagementsystem.entity.Book;
+import com.knf.dev.librarymanagementsystem.entity.Category;
+import com.knf.dev.librarymanagementsystem.entity.Publisher;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Renders the book pages end to end and fails if the number of SQL
+ * statements grows with the number of books or relations on the page.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class BookPageStatementCountTest {
+
+    // record page + cached count + the names of the page's authors, categories and publishers
+    private static final long MAX_LIST_STATEMENTS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void listPage_ShouldRenderRelationsWithBoundedStatements() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            bookService.createBook(bookWithRelations("fetch-list-" + i));
+        }
+
+        assertStatements(MAX_LIST_STATEMENTS, get("/books").param("size", "100"), "fetch-list-4 author");
+        assertStatements(MAX_LIST_STATEMENTS, get("/searchBook").param("keyword", "fetch-list"), "fetch-list-0 publisher");
+    }
+
+    @Test
+    void detailPage_ShouldLoadBookAndRelationsInOneStatement() throws Exception {
+        Book book = bookWithRelations("fetch-detail");
+        bookService.createBook(book);
+
+        assertStatements(1, get("/book/{id}", book.getId()), "fetch-detail category");
+    }
+
+    private void assertStatements(long max, RequestBuilder request, String expectedText) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(expectedText)));
+        long executed = statistics.getPrepareStatementCount();
+        assertTrue(executed <= max, "expected at most " + max + " statements but was " + executed);
+    }
+
+    private static Book bookWithRelations(String name) {
+        Book book = new Book(name + "-isbn", name, name + "-serial", "Fetch plan test.");
+        book.addAuthors(new Author(name + " author", "Fetch plan test."));
+        book.addCategories(new Category(name + " category"));
+        book.addPublishers(new Publisher(name + " publisher"));
+        return book;
+    }
+}
@@ -2,9 +2,13 @@ package com.knf.dev.librarymanagementsystem.controller;
 
 import com.knf.dev.librarymanagementsystem.entity.Category;
 import com.knf.dev.librarymanagementsystem.service.CategoryService;
+import com.knf.dev.librarymanagementsystem.vo.CategoryRecord;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.ui.Model;
@@ -46,13 +50,18 @@ class CategoryControllerTest {
 
     @Test
     void getAllCategories_ShouldReturnCategoryListView() throws Exception {
-        List<Category> categories = Arrays.asList(testCategory);
-        when(categoryService.findAllCategories()).thenReturn(categories);
+        List<CategoryRecord> categories = Arrays.asList(new CategoryRecord(1L, "Test Category"));
+        Page<CategoryRecord> page = new PageImpl<>(categories);
+        when(categoryService.findPaginated(any(Pageable.class))).thenReturn(page);
 
-        mockMvc.perform(get("/categories"))
+        mockMvc.perform(get("/categories?page=1&size=5"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("list-categories"))
-                .andExpect(model().attribute("categories", categories));
+                .andExpect(model().attribute("categories", page))
+                .andExpect(model().attribute("sort", "id"))
+                .andExpect(model().attributeExists("pageNumbers"));
+
+        verify(categoryService, never()).findAllCategories();
     }
 
     @Test
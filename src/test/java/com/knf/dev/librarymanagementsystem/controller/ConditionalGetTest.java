@@ -0,0 +1,191 @@
+package com.knf.dev.librarymanagementsystem.controller;
+
+import com.knf.dev.librarymanagementsystem.entity.Author;
+import com.knf.dev.librarymanagementsystem.entity.Book;
+import com.knf.dev.librarymanagementsystem.entity.Category;
+import com.knf.dev.librarymanagementsystem.entity.Publisher;
+import com.knf.dev.librarymanagementsystem.service.AuthorService;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Replays a synthetic access log of catalog page views, with an occasional
+ * write in between, once with clients that never revalidate and once with
+ * clients that send back the tags they were given. Checks how many requests
+ * were answered 304 and that revalidating clients cost under half the
+ * statements, and fails if a 304 touches the database or a write is not seen
+ * by the next request.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class ConditionalGetTest {
+
+    private static final int BOOKS = 30;
+
+    private static final int REQUESTS = 600;
+
+    // one write per this many page views
+    private static final int WRITE_EVERY = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void replayedLog_ShouldAnswerRevalidationsWithoutQueries() throws Exception {
+        List<String> accessLog = accessLog();
+
+        Replay unconditional = replay(accessLog, "plain", false);
+        Replay conditional = replay(accessLog, "conditional", true);
+
+        assertEquals(0, unconditional.notModified());
+        assertEquals(0, conditional.statementsFor304(), "a 304 must not query the database");
+        assertTrue(conditional.notModified() > REQUESTS / 2,
+                "expected most revalidations to be answered 304 but was " + conditional.notModified());
+        assertTrue(conditional.statements() * 2 < unconditional.statements(),
+                "expected conditional replay to need under half the statements but was "
+                        + conditional.statements() + " of " + unconditional.statements());
+    }
+
+    @Test
+    void write_ShouldInvalidateTagsOfPagesShowingIt() throws Exception {
+        MvcResult books = mockMvc.perform(get("/books"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String booksTag = books.getResponse().getHeader(HttpHeaders.ETAG);
+        String authorsTag = mockMvc.perform(get("/authors")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String categoriesTag = mockMvc.perform(get("/categories")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/books").header(HttpHeaders.IF_NONE_MATCH, booksTag))
+                .andExpect(status().isNotModified());
+
+        Author author = new Author("etag-new author", "Conditional GET test.");
+        authorService.createAuthor(author);
+
+        mockMvc.perform(get("/books").header(HttpHeaders.IF_NONE_MATCH, booksTag))
+                .andExpect(status().isOk());
+        // a date cannot tell two writes within one second apart, so it never earns a 304
+        mockMvc.perform(get("/books").header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 31 Dec 2100 23:59:59 GMT"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/authors").header(HttpHeaders.IF_NONE_MATCH, authorsTag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/authors/{id}", author.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("etag-new author")));
+        mockMvc.perform(get("/categories").header(HttpHeaders.IF_NONE_MATCH, categoriesTag))
+                .andExpect(status().isNotModified());
+    }
+
+    private List<String> accessLog() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < BOOKS; i++) {
+            Book book = new Book("etag-" + i + "-isbn", "etag-" + i, "etag-serial", "Conditional GET test.");
+            book.addAuthors(new Author("etag-" + i + " author", "Conditional GET test."));
+            book.addCategories(new Category("etag-" + i + " category"));
+            book.addPublishers(new Publisher("etag-" + i + " publisher"));
+            bookService.createBook(book);
+            ids.add(book.getId());
+        }
+
+        // mostly the first list pages and a handful of popular books, as in a real log
+        Random random = new Random(42);
+        List<String> log = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            int pick = random.nextInt(10);
+            if (pick < 4) {
+                log.add("/books?page=" + (1 + random.nextInt(2)));
+            } else if (pick < 7) {
+                log.add("/book/" + ids.get(random.nextInt(5)));
+            } else if (pick < 8) {
+                log.add("/authors");
+            } else if (pick < 9) {
+                log.add("/publishers");
+            } else {
+                log.add("/api/v1/books?size=10");
+            }
+        }
+        return log;
+    }
+
+    private Replay replay(List<String> accessLog, String run, boolean revalidate) throws Exception {
+        Map<String, String> tags = new HashMap<>();
+        long statements = 0;
+        long statementsFor304 = 0;
+        int notModified = 0;
+
+        for (int i = 0; i < accessLog.size(); i++) {
+            if (i > 0 && i % WRITE_EVERY == 0) {
+                authorService.createAuthor(new Author(run + "-" + i + " author", "Conditional GET test."));
+            }
+            String path = accessLog.get(i);
+            MockHttpServletRequestBuilder request = get(path);
+            if (revalidate && tags.containsKey(path)) {
+                request.header(HttpHeaders.IF_NONE_MATCH, tags.get(path));
+            }
+
+            statistics.clear();
+            MvcResult result = mockMvc.perform(request).andReturn();
+            long executed = statistics.getPrepareStatementCount();
+            statements += executed;
+
+            int status = result.getResponse().getStatus();
+            if (status == 304) {
+                notModified++;
+                statementsFor304 += executed;
+            } else {
+                assertEquals(200, status, path);
+                tags.put(path, result.getResponse().getHeader(HttpHeaders.ETAG));
+            }
+        }
+        return new Replay(statements, statementsFor304, notModified);
+    }
+
+    private record Replay(long statements, long statementsFor304, int notModified) {
+    }
+}
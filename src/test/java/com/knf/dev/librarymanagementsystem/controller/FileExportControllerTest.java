@@ -1,18 +1,32 @@
 package com.knf.dev.librarymanagementsystem.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import javax.servlet.http.HttpServletResponse;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
 import com.knf.dev.librarymanagementsystem.service.FileService;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,12 +38,11 @@ class FileExportControllerTest {
     @Mock
     private HttpServletResponse response;
 
-    @InjectMocks
     private FileExportController fileExportController;
 
     @BeforeEach
     void setUp() {
-        // Any setup if needed
+        fileExportController = new FileExportController(fileService, 1);
     }
 
     @Test
@@ -44,4 +57,34 @@ class FileExportControllerTest {
         // Assert
         verify(fileService).exportCSV(fileName, response);
     }
-}
\ No newline at end of file
+
+    @Test
+    void exportCSV_UnknownItem_ShouldRespondNotFound() throws Exception {
+        doThrow(new NotFoundException("No export for all-nothing")).when(fileService)
+                .exportCSV(eq("all-nothing"), any(HttpServletResponse.class));
+
+        MockMvcBuilders.standaloneSetup(fileExportController).setControllerAdvice(new FileExceptionHandler()).build()
+                .perform(get("/export/all-nothing"))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertEquals("No export for all-nothing", result.getResponse().getErrorMessage()));
+    }
+
+    @Test
+    void exportCSV_BeyondTheLimit_ShouldRespondServiceUnavailable() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(fileExportController)
+                .setControllerAdvice(new FileExceptionHandler()).build();
+        // the second export arrives while the first, the only one allowed, is still being written
+        doAnswer(invocation -> {
+            mockMvc.perform(get("/export/all-author"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, FileExceptionHandler.RETRY_AFTER_SECONDS));
+            return null;
+        }).doNothing().when(fileService).exportCSV(eq("all-book"), any(HttpServletResponse.class));
+
+        mockMvc.perform(get("/export/all-book")).andExpect(status().isOk());
+        mockMvc.perform(get("/export/all-book")).andExpect(status().isOk());
+
+        verify(fileService, times(2)).exportCSV(eq("all-book"), any(HttpServletResponse.class));
+        verify(fileService, never()).exportCSV(eq("all-author"), any(HttpServletResponse.class));
+    }
+}
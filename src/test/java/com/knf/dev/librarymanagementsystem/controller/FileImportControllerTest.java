@@ -0,0 +1,65 @@
+package com.knf.dev.librarymanagementsystem.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.ui.ConcurrentModel;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.ui.Model;
+
+import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
+import com.knf.dev.librarymanagementsystem.service.FileService;
+import com.knf.dev.librarymanagementsystem.vo.ImportReport;
+
+@ExtendWith(MockitoExtension.class)
+class FileImportControllerTest {
+
+    @Mock
+    private FileService fileService;
+
+    @InjectMocks
+    private FileImportController fileImportController;
+
+    @Test
+    void importCSV_ShouldPassUploadToFileServiceAndShowReport() throws Exception {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "authors.csv", "text/csv",
+                "NAME,DESCRIPTION\nMatt,Writer\n".getBytes());
+        ImportReport report = new ImportReport("all-author", 1, 0, List.of());
+        when(fileService.importCSV(eq("all-author"), any(InputStream.class))).thenReturn(report);
+        Model model = new ConcurrentModel();
+
+        // Act
+        String viewName = fileImportController.importCSV("all-author", file, model);
+
+        // Assert
+        assertEquals("import-report", viewName);
+        assertEquals(report, model.getAttribute("report"));
+        verify(fileService).importCSV(eq("all-author"), any(InputStream.class));
+    }
+
+    @Test
+    void importCSV_UnknownItem_ShouldRespondNotFound() throws Exception {
+        when(fileService.importCSV(eq("all-nothing"), any(InputStream.class)))
+                .thenThrow(new NotFoundException("No import for all-nothing"));
+
+        MockMvcBuilders.standaloneSetup(fileImportController).setControllerAdvice(new FileExceptionHandler()).build()
+                .perform(multipart("/import/all-nothing").file(new MockMultipartFile("file", "x.csv", "text/csv", new byte[0])))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertEquals("No import for all-nothing", result.getResponse().getErrorMessage()));
+    }
+}
@@ -3,6 +3,7 @@ package com.knf.dev.librarymanagementsystem.controller;
 import com.knf.dev.librarymanagementsystem.config.TestSecurityConfig;
 import com.knf.dev.librarymanagementsystem.repository.UserRepository;
 import com.knf.dev.librarymanagementsystem.service.BookService;
+import com.knf.dev.librarymanagementsystem.util.CatalogVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,7 +23,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = IndexController.class)
-@Import(TestSecurityConfig.class)
+@Import({ TestSecurityConfig.class, CatalogVersions.class })
 @ActiveProfiles("test")
 class IndexControllerTest {
 
@@ -0,0 +1,25 @@
+package com.knf.dev.librarymanagementsystem.controller;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Baseline for {@link VirtualThreadLoadTest}: Tomcat's default worker pool
+ * with the same connection limits. Runs when {@code load.clients} is set.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-platform;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "library.render-cache.enabled=false",
+        "server.tomcat.max-connections=20000",
+        "server.tomcat.accept-count=1000" })
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "load.clients", matches = "[1-9][0-9]*")
+class PlatformThreadLoadTest extends RequestThreadingLoadSupport {
+
+    @Override
+    String mode() {
+        return "platform";
+    }
+}
@@ -2,9 +2,13 @@ package com.knf.dev.librarymanagementsystem.controller;
 
 import com.knf.dev.librarymanagementsystem.entity.Publisher;
 import com.knf.dev.librarymanagementsystem.service.PublisherService;
+import com.knf.dev.librarymanagementsystem.vo.PublisherRecord;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.validation.BindingResult;
@@ -46,15 +50,19 @@ class PublisherControllerTest {
 
     @Test
     void findAllPublishers_ShouldReturnListView() throws Exception {
-        List<Publisher> list = Arrays.asList(testPublisher);
-        when(publisherService.findAllPublishers()).thenReturn(list);
+        List<PublisherRecord> list = Arrays.asList(new PublisherRecord(1L, "Test Publisher"));
+        Page<PublisherRecord> page = new PageImpl<>(list);
+        when(publisherService.findPaginated(any(Pageable.class))).thenReturn(page);
 
-        mockMvc.perform(get("/publishers"))
+        mockMvc.perform(get("/publishers?page=1&size=5"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("list-publishers"))
-                .andExpect(model().attribute("publishers", list));
+                .andExpect(model().attribute("publishers", page))
+                .andExpect(model().attribute("sort", "id"))
+                .andExpect(model().attributeExists("pageNumbers"));
 
-        verify(publisherService).findAllPublishers();
+        verify(publisherService).findPaginated(any(Pageable.class));
+        verify(publisherService, never()).findAllPublishers();
     }
 
     @Test
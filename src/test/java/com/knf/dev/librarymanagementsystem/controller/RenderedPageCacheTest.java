@@ -0,0 +1,107 @@
+package com.knf.dev.librarymanagementsystem.controller;
+
+import com.knf.dev.librarymanagementsystem.entity.Book;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Serves the book list repeatedly through the rendered page cache and checks
+ * that repeats skip the database and that writes and other roles get a fresh
+ * render.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class RenderedPageCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void repeatedListPage_ShouldBeServedWithoutQueries() throws Exception {
+        String first = render("/books?size=50&page=1");
+
+        statistics.clear();
+        String again = render("/books?size=50&page=1");
+
+        assertEquals(first, again);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(meterRegistry.get("rendered.pages.bytes").gauge().value() >= first.length());
+        assertTrue(meterRegistry.get("rendered.pages.hit.ratio").gauge().value() > 0);
+    }
+
+    @Test
+    void write_ShouldRenderPageAgain() throws Exception {
+        render("/books?size=100&page=1");
+
+        bookService.createBook(new Book("render-cache-isbn", "render-cache-book", "render-serial", "Render cache test."));
+
+        statistics.clear();
+        assertTrue(render("/books?size=100&page=1").contains("render-cache-book"));
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void otherRoles_ShouldGetTheirOwnRender() throws Exception {
+        render("/authors?size=7");
+        statistics.clear();
+        render("/authors?size=7");
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        // keyed separately from the USER render of the same page
+        statistics.clear();
+        mockMvc.perform(get("/authors?size=7").with(user("user"))).andExpect(status().isOk());
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+    }
+
+    @Test
+    void cachedPage_ShouldStillAnswerRevalidation() throws Exception {
+        render("/categories");
+        MvcResult cached = mockMvc.perform(get("/categories")).andExpect(status().isOk()).andReturn();
+
+        mockMvc.perform(get("/categories").header(HttpHeaders.IF_NONE_MATCH, cached.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
+    private String render(String url) throws Exception {
+        return mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,114 @@
+package com.knf.dev.librarymanagementsystem.controller;
+
+import com.knf.dev.librarymanagementsystem.entity.Book;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test of {@code /books} and {@code /searchBook} over real HTTP, shared
+ * by the platform and virtual thread variants. Every client sends its
+ * requests one after another, so {@code load.clients} is the number of
+ * requests in flight. Like the load-test harness it only runs when asked
+ * for, here by setting {@code load.clients}; the comparison the mode was
+ * built for is
+ * {@code mvn -Pjava21 test -Dtest='*ThreadLoadTest' -Dload.clients=10000}.
+ */
+abstract class RequestThreadingLoadSupport {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 0);
+
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.requests", 5);
+
+    private static final int BOOKS = 200;
+
+    private static final int WARMUP_CLIENTS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookService bookService;
+
+    @Test
+    void catalogPages_UnderConcurrentClients() {
+        for (int i = 0; i < BOOKS; i++) {
+            bookService.createBook(new Book("load-" + i + "-isbn", "load-" + i, "load-serial", "Load test."));
+        }
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(30)).build();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        // one client first: a cold JIT and template cache shared by every request would dominate the numbers
+        for (int i = 0; i < WARMUP_CLIENTS; i++) {
+            runClient(client, i, 0, new ConcurrentLinkedQueue<>(), new AtomicInteger()).join();
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture.allOf(IntStream.range(0, CLIENTS)
+                .mapToObj(c -> runClient(client, c, 0, latencies, failures))
+                .toArray(CompletableFuture[]::new)).join();
+        long elapsed = System.nanoTime() - start;
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        System.out.printf("%s threads, %d clients: %d requests/s, p50 %d ms, p99 %d ms, %d failed%n",
+                mode(), CLIENTS, sorted.length * 1_000_000_000L / Math.max(elapsed, 1),
+                percentile(sorted, 50), percentile(sorted, 99), failures.get());
+
+        assertEquals(CLIENTS * REQUESTS_PER_CLIENT, sorted.length);
+        // a few timeouts are a result worth reporting at 10k clients, not a broken server
+        assertTrue(failures.get() * 100 <= sorted.length, "more than 1% of requests failed: " + failures.get());
+    }
+
+    abstract String mode();
+
+    private CompletableFuture<Void> runClient(HttpClient client, int clientId, int request,
+                                              ConcurrentLinkedQueue<Long> latencies, AtomicInteger failures) {
+        if (request == REQUESTS_PER_CLIENT) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // alternate the paged list with keyword searches
+        String path = (clientId + request) % 2 == 0
+                ? "/books?size=20&page=" + (1 + (clientId + request) % 10)
+                : "/searchBook?keyword=load-" + (clientId * 7 + request) % BOOKS;
+        HttpRequest get = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofMinutes(2)).build();
+
+        long sent = System.nanoTime();
+        return client.sendAsync(get, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    latencies.add((System.nanoTime() - sent) / 1_000_000);
+                    if (error != null || response.statusCode() != 200) {
+                        failures.incrementAndGet();
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> runClient(client, clientId, request + 1, latencies, failures));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    static boolean virtualThreadsAvailable() {
+        return Runtime.version().feature() >= 21;
+    }
+
+}
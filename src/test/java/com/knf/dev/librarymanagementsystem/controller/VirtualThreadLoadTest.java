@@ -0,0 +1,26 @@
+package com.knf.dev.librarymanagementsystem.controller;
+
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Serves the load of {@link RequestThreadingLoadSupport} with the
+ * virtual-threads profile. Skipped below Java 21; run it with the java21
+ * Maven profile and {@code load.clients} set.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-virtual;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.show-sql=false",
+        "library.render-cache.enabled=false" })
+@ActiveProfiles({ "test", "virtual-threads" })
+@EnabledIfSystemProperty(named = "load.clients", matches = "[1-9][0-9]*")
+@EnabledIf("com.knf.dev.librarymanagementsystem.controller.RequestThreadingLoadSupport#virtualThreadsAvailable")
+class VirtualThreadLoadTest extends RequestThreadingLoadSupport {
+
+    @Override
+    String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,66 @@
+package com.knf.dev.librarymanagementsystem.controller.api;
+
+import com.knf.dev.librarymanagementsystem.entity.Author;
+import com.knf.dev.librarymanagementsystem.service.AuthorService;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.AuthorRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorApiControllerTest {
+
+    @Mock
+    private AuthorService authorService;
+
+    @InjectMocks
+    private AuthorApiController authorApiController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(authorApiController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void findAuthors_ShouldReturnPageOfRecords() throws Exception {
+        when(authorService.findPaginated(Paginator.pageRequest(1, 20, null)))
+                .thenReturn(new PageImpl<>(List.of(new AuthorRecord(1L, "Matt", "Writer")), Paginator.pageRequest(1, 20, null), 1));
+
+        mockMvc.perform(get("/api/v1/authors"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Matt"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void findAuthorById_WithFields_ShouldReturnOnlyThoseFields() throws Exception {
+        Author author = new Author("Matt", "Writer");
+        author.setId(1L);
+        when(authorService.findAuthorById(1L)).thenReturn(author);
+
+        mockMvc.perform(get("/api/v1/authors/1").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Matt"))
+                .andExpect(jsonPath("$", not(hasKey("id"))));
+    }
+}
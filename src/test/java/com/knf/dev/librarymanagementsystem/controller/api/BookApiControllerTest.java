@@ -0,0 +1,132 @@
+package com.knf.dev.librarymanagementsystem.controller.api;
+
+import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.util.SearchPage;
+import com.knf.dev.librarymanagementsystem.vo.BookRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookApiControllerTest {
+
+    @Mock
+    private BookService bookService;
+
+    @InjectMocks
+    private BookApiController bookApiController;
+
+    private MockMvc mockMvc;
+
+    private final BookRecord book = new BookRecord(1L, "ISBN-1", "Spring in Action", "S1", "Description");
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(bookApiController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .addFilters(new ShallowEtagHeaderFilter())
+                .build();
+    }
+
+    @Test
+    void findBooks_ShouldReturnPageOfRecords() throws Exception {
+        when(bookService.findPaginated(Paginator.pageRequest(2, 10, "name")))
+                .thenReturn(new PageImpl<>(List.of(book), Paginator.pageRequest(2, 10, "name"), 11));
+
+        mockMvc.perform(get("/api/v1/books").param("page", "2").param("size", "10").param("sort", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].isbn").value("ISBN-1"))
+                .andExpect(jsonPath("$.content[0].description").value("Description"))
+                .andExpect(jsonPath("$.page").value(2))
+                .andExpect(jsonPath("$.size").value(10))
+                .andExpect(jsonPath("$.totalElements").value(11))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.truncated").value(false));
+    }
+
+    @Test
+    void findBooks_WithQuery_ShouldSearch() throws Exception {
+        when(bookService.searchPaginated("spring", Paginator.pageRequest(1, 20, null)))
+                .thenReturn(new SearchPage<>(List.of(book), Paginator.pageRequest(1, 20, null), 1, false));
+
+        mockMvc.perform(get("/api/v1/books").param("q", "spring"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Spring in Action"))
+                .andExpect(jsonPath("$.truncated").value(false));
+    }
+
+    @Test
+    void findBooks_WithTruncatedSearch_ShouldSayTheTotalIsALowerBound() throws Exception {
+        when(bookService.searchPaginated("s", Paginator.pageRequest(1, 20, null)))
+                .thenReturn(new SearchPage<>(List.of(book), Paginator.pageRequest(1, 20, null), 1000, true));
+
+        mockMvc.perform(get("/api/v1/books").param("q", "s"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1000))
+                .andExpect(jsonPath("$.truncated").value(true));
+    }
+
+    @Test
+    void findBooks_WithFields_ShouldReturnOnlyThoseFields() throws Exception {
+        when(bookService.findPaginated(Paginator.pageRequest(1, 20, null)))
+                .thenReturn(new SearchPage<>(List.of(book), Paginator.pageRequest(1, 20, null), 1, false));
+
+        mockMvc.perform(get("/api/v1/books").param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Spring in Action"))
+                .andExpect(jsonPath("$.content[0]", not(hasKey("description"))));
+    }
+
+    @Test
+    void findBooks_WithUnknownField_ShouldBeBadRequest() throws Exception {
+        when(bookService.findPaginated(Paginator.pageRequest(1, 20, null)))
+                .thenReturn(new SearchPage<>(List.of(book), Paginator.pageRequest(1, 20, null), 1, false));
+
+        mockMvc.perform(get("/api/v1/books").param("fields", "id,price"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+    }
+
+    @Test
+    void findBookById_ShouldHonourIfNoneMatch() throws Exception {
+        when(bookService.findBookRecordById(1L)).thenReturn(book);
+
+        String etag = mockMvc.perform(get("/api/v1/books/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.serialName").value("S1"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/books/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void findBookById_WhenMissing_ShouldReturnNotFound() throws Exception {
+        when(bookService.findBookRecordById(9L)).thenThrow(new NotFoundException("Book not found with ID 9"));
+
+        mockMvc.perform(get("/api/v1/books/9"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Book not found with ID 9"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.knf.dev.librarymanagementsystem.controller.api;
+
+import com.knf.dev.librarymanagementsystem.entity.Category;
+import com.knf.dev.librarymanagementsystem.service.CategoryService;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.CategoryRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryApiControllerTest {
+
+    @Mock
+    private CategoryService categoryService;
+
+    @InjectMocks
+    private CategoryApiController categoryApiController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(categoryApiController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void findCategories_ShouldReturnPageOfRecords() throws Exception {
+        when(categoryService.findPaginated(Paginator.pageRequest(1, 20, null)))
+                .thenReturn(new PageImpl<>(List.of(new CategoryRecord(1L, "Fiction")), Paginator.pageRequest(1, 20, null), 1));
+
+        mockMvc.perform(get("/api/v1/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Fiction"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void findCategoryById_WithFields_ShouldReturnOnlyThoseFields() throws Exception {
+        Category category = new Category("Fiction");
+        category.setId(1L);
+        when(categoryService.findCategoryById(1L)).thenReturn(category);
+
+        mockMvc.perform(get("/api/v1/categories/1").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Fiction"))
+                .andExpect(jsonPath("$", not(hasKey("id"))));
+    }
+}
@@ -0,0 +1,66 @@
+package com.knf.dev.librarymanagementsystem.controller.api;
+
+import com.knf.dev.librarymanagementsystem.entity.Publisher;
+import com.knf.dev.librarymanagementsystem.service.PublisherService;
+import com.knf.dev.librarymanagementsystem.util.Paginator;
+import com.knf.dev.librarymanagementsystem.vo.PublisherRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class PublisherApiControllerTest {
+
+    @Mock
+    private PublisherService publisherService;
+
+    @InjectMocks
+    private PublisherApiController publisherApiController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(publisherApiController)
+                .setControllerAdvice(new ApiExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void findPublishers_ShouldReturnPageOfRecords() throws Exception {
+        when(publisherService.findPaginated(Paginator.pageRequest(1, 20, null)))
+                .thenReturn(new PageImpl<>(List.of(new PublisherRecord(1L, "Penguin")), Paginator.pageRequest(1, 20, null), 1));
+
+        mockMvc.perform(get("/api/v1/publishers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Penguin"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    void findPublisherById_WithFields_ShouldReturnOnlyThoseFields() throws Exception {
+        Publisher publisher = new Publisher("Penguin");
+        publisher.setId(1L);
+        when(publisherService.findPublisherById(1L)).thenReturn(publisher);
+
+        mockMvc.perform(get("/api/v1/publishers/1").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Penguin"))
+                .andExpect(jsonPath("$", not(hasKey("id"))));
+    }
+}
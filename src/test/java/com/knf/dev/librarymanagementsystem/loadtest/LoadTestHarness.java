@@ -0,0 +1,362 @@
+package com.knf.dev.librarymanagementsystem.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drives a running instance the way readers do and reports throughput and
+ * latency percentiles per step. Each virtual user logs in through the form,
+ * then loops without think time over a weighted mix of book list pages,
+ * searches, book details and, rarely, the full CSV export; the catalog is
+ * sampled through {@code /api/v1/books} first so detail views and searches
+ * hit real books. Users join one at a time over the warm-up, and requests
+ * during the warm-up are sent but not measured.
+ *
+ * <p>Against an instance started with the loadtest profile, which seeds a
+ * synthetic catalog:
+ *
+ * <pre>
+ * mvn spring-boot:run -Dspring-boot.run.profiles=loadtest
+ * mvn -Ploadtest verify -Dloadtest.args="users=50 duration=120s"
+ * </pre>
+ *
+ * Arguments are {@code key=value}: url, username, password, users, warmup,
+ * duration (with an s suffix), page-size and the step weights login,
+ * browse, search, detail and export. Login is 0 by default; a weight above
+ * that signs users in again during the run, which shows what a flood of
+ * logins does to the pages readers are waiting for; logins turned away by
+ * the bounded hashing pool count as login errors:
+ *
+ * <pre>
+ * mvn -Ploadtest verify -Dloadtest.args="users=20 login=30 browse=70 search=0 detail=0 export=0"
+ * </pre>
+ */
+public final class LoadTestHarness {
+
+    public enum Step {
+        LOGIN, BROWSE, SEARCH, DETAIL, EXPORT
+    }
+
+    private static final int SAMPLED_PAGES = 20;
+
+    private final Settings settings;
+
+    private final ObjectMapper json = new ObjectMapper();
+
+    private final List<Long> bookIds = new ArrayList<>();
+
+    private final List<String> searchTerms = new ArrayList<>();
+
+    private int browsePages = 1;
+
+    public LoadTestHarness(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestHarness(Settings.parse(args)).run().print(System.out);
+    }
+
+    public Report run() throws Exception {
+        sampleCatalog();
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+
+        ExecutorService users = Executors.newFixedThreadPool(settings.users());
+        try {
+            List<Future<Map<Step, Samples>>> results = new ArrayList<>();
+            for (int user = 0; user < settings.users(); user++) {
+                long seed = user;
+                // users join one by one over the warm-up: a login storm would only measure the bounded hashing pool
+                long joinAt = start + settings.warmup().toNanos() * user / settings.users();
+                results.add(users.submit(() -> new VirtualUser(new Random(seed), joinAt, measureFrom, end).call()));
+            }
+            Map<Step, Samples> merged = new EnumMap<>(Step.class);
+            for (Future<Map<Step, Samples>> result : results) {
+                result.get().forEach((step, samples) -> merged.computeIfAbsent(step, s -> new Samples())
+                        .addAll(samples));
+            }
+            return new Report(settings, merged);
+        } finally {
+            users.shutdownNow();
+        }
+    }
+
+    // a spread of book ids and title words from across the list, so the mix does not hammer one page
+    private void sampleCatalog() throws IOException, InterruptedException {
+        HttpClient client = login(new Samples());
+        JsonNode first = getJson(client, "/api/v1/books?page=1&size=100&fields=id,name");
+        int totalPages = first.get("totalPages").asInt();
+        browsePages = Math.max(1, Math.min(100, (int) Math.ceil(first.get("totalElements").asLong()
+                / (double) settings.pageSize())));
+        Random random = new Random(-1);
+        sample(first);
+        for (int i = 1; i < Math.min(SAMPLED_PAGES, totalPages); i++) {
+            int page = 1 + random.nextInt(totalPages);
+            sample(getJson(client, "/api/v1/books?page=" + page + "&size=100&fields=id,name"));
+        }
+        if (bookIds.isEmpty()) {
+            throw new IllegalStateException("The catalog at " + settings.url() + " has no books");
+        }
+    }
+
+    private void sample(JsonNode page) {
+        for (JsonNode book : page.get("content")) {
+            bookIds.add(book.get("id").asLong());
+            searchTerms.addAll(Arrays.asList(book.get("name").asText().trim().split("\\s+")));
+        }
+    }
+
+    private JsonNode getJson(HttpClient client, String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(path).build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " answered " + response.statusCode());
+        }
+        return json.readTree(response.body());
+    }
+
+    private HttpClient login(Samples samples) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long start = System.nanoTime();
+        String location = postLogin(client);
+        boolean ok = location != null;
+        samples.add(System.nanoTime() - start, ok);
+        if (!ok) {
+            throw new IllegalStateException("Login as " + settings.username() + " failed");
+        }
+        return client;
+    }
+
+    // where a successful login redirects to, or null if it was refused or turned away
+    private String postLogin(HttpClient client) throws IOException, InterruptedException {
+        String form = "username=" + URLEncoder.encode(settings.username(), StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(settings.password(), StandardCharsets.UTF_8);
+        HttpResponse<Void> response = client.send(request("/login")
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form)).build(), HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+        return response.statusCode() == 302 && !location.contains("error") ? location : null;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(settings.url().resolve(path)).timeout(Duration.ofMinutes(5));
+    }
+
+    private final class VirtualUser {
+
+        private final Random random;
+
+        private final long joinAt;
+
+        private final long measureFrom;
+
+        private final long end;
+
+        private final Map<Step, Samples> samples = new EnumMap<>(Step.class);
+
+        VirtualUser(Random random, long joinAt, long measureFrom, long end) {
+            this.random = random;
+            this.joinAt = joinAt;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            for (Step step : Step.values()) {
+                samples.put(step, new Samples());
+            }
+        }
+
+        Map<Step, Samples> call() throws Exception {
+            Thread.sleep(Math.max(0, (joinAt - System.nanoTime()) / 1_000_000));
+            // logins happen during the warm-up, but are measured all the same
+            HttpClient client = login(samples.get(Step.LOGIN));
+            while (System.nanoTime() < end) {
+                Step step = nextStep();
+                long start = System.nanoTime();
+                boolean ok;
+                try {
+                    if (step == Step.LOGIN) {
+                        // signs in again on the same session, as a flood of logins would
+                        ok = postLogin(client) != null;
+                    } else {
+                        HttpResponse<Void> response = client.send(request(path(step)).build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        ok = response.statusCode() == 200;
+                    }
+                } catch (IOException e) {
+                    ok = false;
+                }
+                long finished = System.nanoTime();
+                if (start >= measureFrom && finished <= end) {
+                    samples.get(step).add(finished - start, ok);
+                }
+            }
+            return samples;
+        }
+
+        private Step nextStep() {
+            int roll = random.nextInt(settings.totalWeight());
+            for (Map.Entry<Step, Integer> weight : settings.weights().entrySet()) {
+                roll -= weight.getValue();
+                if (roll < 0) {
+                    return weight.getKey();
+                }
+            }
+            throw new IllegalStateException("No step for the roll");
+        }
+
+        private String path(Step step) {
+            switch (step) {
+            case BROWSE:
+                // early pages are visited far more often than late ones
+                double r = random.nextDouble();
+                return "/books?page=" + (1 + (int) (browsePages * r * r)) + "&size=" + settings.pageSize()
+                        + (random.nextBoolean() ? "&sort=name" : "");
+            case SEARCH:
+                String term = searchTerms.get(random.nextInt(searchTerms.size()));
+                return "/searchBook?keyword=" + URLEncoder.encode(term, StandardCharsets.UTF_8);
+            case DETAIL:
+                return "/book/" + bookIds.get(random.nextInt(bookIds.size()));
+            case EXPORT:
+                return "/export/all-book";
+            default:
+                throw new IllegalArgumentException(step.name());
+            }
+        }
+    }
+
+    public record Settings(URI url, String username, String password, int users, Duration warmup, Duration duration,
+                           int pageSize, Map<Step, Integer> weights) {
+
+        public static Settings parse(String... args) {
+            Map<String, String> values = new HashMap<>(Map.of(
+                    "url", "http://localhost:9080", "username", "admin@admin.in", "password", "Temp123",
+                    "users", "20", "warmup", "10s", "duration", "60s", "page-size", "20"));
+            values.putAll(Map.of("login", "0", "browse", "50", "search", "25", "detail", "24", "export", "1"));
+            for (String arg : args) {
+                for (String pair : arg.trim().split("\\s+")) {
+                    if (!pair.isEmpty()) {
+                        String[] keyValue = pair.split("=", 2);
+                        if (keyValue.length != 2 || !values.containsKey(keyValue[0])) {
+                            throw new IllegalArgumentException("Unknown argument " + pair);
+                        }
+                        values.put(keyValue[0], keyValue[1]);
+                    }
+                }
+            }
+            Map<Step, Integer> weights = new EnumMap<>(Step.class);
+            for (Step step : Step.values()) {
+                weights.put(step, Integer.parseInt(values.get(step.name().toLowerCase())));
+            }
+            return new Settings(URI.create(values.get("url")), values.get("username"), values.get("password"),
+                    Integer.parseInt(values.get("users")), seconds(values.get("warmup")),
+                    seconds(values.get("duration")), Integer.parseInt(values.get("page-size")), weights);
+        }
+
+        private static Duration seconds(String value) {
+            return Duration.ofSeconds(Long.parseLong(value.endsWith("s") ? value.substring(0, value.length() - 1)
+                    : value));
+        }
+
+        int totalWeight() {
+            return weights.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    /** Latencies of one step in nanoseconds, with the number that failed. */
+    public static final class Samples {
+
+        private long[] nanos = new long[1024];
+
+        private int count;
+
+        private int errors;
+
+        void add(long latency, boolean ok) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latency;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.nanos[i], true);
+            }
+            errors += other.errors;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public int errors() {
+            return errors;
+        }
+
+        /** Latency in milliseconds below which the given share of requests finished, e.g. 0.99. */
+        public double percentileMillis(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, (int) Math.ceil(quantile * count) - 1)] / 1_000_000.0;
+        }
+    }
+
+    public record Report(Settings settings, Map<Step, Samples> steps) {
+
+        public Samples step(Step step) {
+            return steps.getOrDefault(step, new Samples());
+        }
+
+        public void print(PrintStream out) {
+            double seconds = settings.duration().toNanos() / 1e9;
+            out.printf("%d users for %ds against %s%n", settings.users(), settings.duration().toSeconds(),
+                    settings.url());
+            out.printf("%-8s %9s %7s %9s %9s %9s %9s %9s%n", "step", "requests", "errors", "req/s", "p50 ms",
+                    "p90 ms", "p99 ms", "max ms");
+            Samples total = new Samples();
+            steps.forEach((step, samples) -> {
+                total.addAll(samples);
+                print(out, step.name().toLowerCase(), samples, seconds);
+            });
+            print(out, "total", total, seconds);
+        }
+
+        private static void print(PrintStream out, String name, Samples samples, double seconds) {
+            out.printf("%-8s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", name, samples.count(), samples.errors(),
+                    samples.count() / seconds, samples.percentileMillis(0.5), samples.percentileMillis(0.9),
+                    samples.percentileMillis(0.99), samples.percentileMillis(1.0));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.knf.dev.librarymanagementsystem.loadtest;
+
+import com.knf.dev.librarymanagementsystem.loadtest.LoadTestHarness.Report;
+import com.knf.dev.librarymanagementsystem.loadtest.LoadTestHarness.Settings;
+import com.knf.dev.librarymanagementsystem.loadtest.LoadTestHarness.Step;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the harness for a few seconds against the application on a random
+ * port with a small synthetic catalog, every step in the mix included, and
+ * checks that each step was exercised without errors and has its row in the
+ * printed report.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:synthetic;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "spring.jpa.show-sql=false",
+        "library.synthetic-catalog.enabled=true",
+        "library.synthetic-catalog.books=2000" })
+class LoadTestHarnessTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void shortRun_ShouldExerciseEveryStepWithoutErrors() throws Exception {
+        Settings settings = Settings.parse("url=http://localhost:" + port,
+                "users=4 warmup=1s duration=4s browse=10 search=10 detail=10 export=2");
+
+        Report report = new LoadTestHarness(settings).run();
+
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        report.print(new PrintStream(printed, true, StandardCharsets.UTF_8));
+        String table = printed.toString(StandardCharsets.UTF_8);
+        for (Step step : Step.values()) {
+            assertTrue(report.step(step).count() > 0, "no " + step + " requests");
+            assertEquals(0, report.step(step).errors(), step + " errors");
+            assertTrue(table.contains("\n" + step.name().toLowerCase() + " "), "no " + step + " row in\n" + table);
+        }
+        assertTrue(table.contains("\ntotal "), "no total row in\n" + table);
+        assertEquals(4, report.step(Step.LOGIN).count());
+        assertTrue(report.step(Step.BROWSE).percentileMillis(0.99) >= report.step(Step.BROWSE).percentileMillis(0.5));
+    }
+}
@@ -1,12 +1,18 @@
 package com.knf.dev.librarymanagementsystem.repository;
 
 import com.knf.dev.librarymanagementsystem.entity.Book;
+import com.knf.dev.librarymanagementsystem.vo.BookRecord;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -48,39 +54,73 @@ class BookRepositoryTest {
     }
 
     @Test
-    void testSearch_ShouldReturnMatchingBooks() {
+    void testDeleteById_ShouldRemoveBook() {
         // GIVEN
-        Book book = new Book("xyz-999", "Searchable Book", "SER-009", "For search test.");
+        Book book = new Book("del-101", "Delete Me", "DEL1", "To be deleted.");
         bookRepository.save(book);
+        Long id = book.getId();
+
+        // WHEN
+        bookRepository.deleteById(id);
+
+        // THEN
+        assertFalse(bookRepository.findById(id).isPresent());
+    }
+
+    @Test
+    void testFindRecordsAfterId_ShouldSeekPastLastId() {
+        // GIVEN
+        Book first = bookRepository.save(new Book("key-001", "Keyset One", "K1", "Keyset test."));
+        Book second = bookRepository.save(new Book("key-002", "Keyset Two", "K2", "Keyset test."));
+
+        // WHEN
+        List<BookRecord> results = bookRepository.findRecordsAfterId(first.getId(), PageRequest.of(0, 1));
+
+        // THEN
+        assertEquals(1, results.size());
+        assertEquals(new BookRecord(second.getId(), "key-002", "Keyset Two", "K2", "Keyset test."), results.get(0));
+    }
+
+    @Test
+    void testFindRecordsAfterName_ShouldBreakTiesById() {
+        // GIVEN
+        Book first = bookRepository.save(new Book("tie-001", "Zz Same Name", "T1", "Tie test."));
+        Book second = bookRepository.save(new Book("tie-002", "Zz Same Name", "T2", "Tie test."));
 
         // WHEN
-        List<Book> results = bookRepository.search("Searchable");
+        List<BookRecord> results = bookRepository.findRecordsAfterName(first.getName(), first.getId(), PageRequest.of(0, 10));
 
         // THEN
         assertFalse(results.isEmpty());
-        assertTrue(results.stream().anyMatch(b -> b.getName().contains("Searchable")));
+        assertEquals(second.getId(), results.get(0).id());
+        assertTrue(results.stream().noneMatch(b -> b.id().equals(first.getId())));
     }
 
     @Test
-    void testSearch_ShouldReturnEmptyList_WhenNoMatch() {
+    @Transactional(readOnly = true)
+    void testStreamRecordsBy_ShouldReturnRowsInIdOrder() {
         // WHEN
-        List<Book> results = bookRepository.search("nonexistent-keyword-xyz");
+        List<Long> ids;
+        try (Stream<BookRecord> books = bookRepository.streamRecordsBy()) {
+            ids = books.map(BookRecord::id).collect(Collectors.toList());
+        }
 
         // THEN
-        assertTrue(results.isEmpty());
+        assertFalse(ids.isEmpty());
+        assertEquals(ids.stream().sorted().collect(Collectors.toList()), ids);
     }
 
     @Test
-    void testDeleteById_ShouldRemoveBook() {
+    void testFindRecordsBy_ShouldApplyPageSort() {
         // GIVEN
-        Book book = new Book("del-101", "Delete Me", "DEL1", "To be deleted.");
-        bookRepository.save(book);
-        Long id = book.getId();
+        bookRepository.save(new Book("rec-001", "Record Page", "R1", "Projection test."));
 
         // WHEN
-        bookRepository.deleteById(id);
+        List<BookRecord> results = bookRepository.findRecordsBy(PageRequest.of(0, 100, Sort.by("id"))).getContent();
 
         // THEN
-        assertFalse(bookRepository.findById(id).isPresent());
+        assertFalse(results.isEmpty());
+        assertEquals(results.stream().map(BookRecord::id).sorted().collect(Collectors.toList()),
+                results.stream().map(BookRecord::id).collect(Collectors.toList()));
     }
 }
@@ -0,0 +1,57 @@
+package com.knf.dev.librarymanagementsystem.repository;
+
+import com.knf.dev.librarymanagementsystem.Application;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Loads a catalog into the prod profile's file-backed database and starts
+ * the application on it again, so the migrations and the schema validation
+ * have to accept a populated database and the books have to be found after
+ * the restart.
+ */
+class PersistenceModeTest {
+
+    private static final int BOOKS = 500;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void fileBackedProfile_ShouldKeepCatalogAcrossRestart() {
+        long books;
+        try (ConfigurableApplicationContext context = start()) {
+            List<Object[]> rows = IntStream.range(0, BOOKS)
+                    .mapToObj(i -> new Object[] { "Persisted book " + i, "persisted-" + i, "Persisted Book " + i, "P" + i })
+                    .collect(Collectors.toList());
+            context.getBean(JdbcTemplate.class).batchUpdate("insert into books (id, description, isbn, name, serial_name) "
+                    + "values (next value for book_seq, ?, ?, ?, ?)", rows);
+            books = context.getBean(BookRepository.class).count();
+        }
+
+        try (ConfigurableApplicationContext context = start()) {
+            BookService bookService = context.getBean(BookService.class);
+            assertEquals(books, context.getBean(BookRepository.class).count());
+            assertEquals(1, bookService.findExistingIsbns(List.of("persisted-7")).size());
+            assertFalse(bookService.searchBooks("Persisted Book 7").isEmpty());
+        }
+    }
+
+    // arguments rather than builder properties, which the profile files would override
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(Application.class).profiles("prod")
+                .run("--server.port=0", "--logging.level.root=WARN", "--library.data-dir=" + dataDir);
+    }
+}
@@ -0,0 +1,88 @@
+package com.knf.dev.librarymanagementsystem.repository;
+
+import com.knf.dev.librarymanagementsystem.entity.Book;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reads the same catalog pages as managed entities and as constructor
+ * projections and checks that the projection path hydrates no entities at
+ * all. The throughput of both paths is measured by ProjectionBenchmark in the
+ * jmh profile.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectionHydrationTest {
+
+    private static final int ROWS = 200;
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<Book> seeded;
+
+    @BeforeEach
+    void seed() {
+        seeded = bookRepository.saveAll(IntStream.range(0, ROWS)
+                .mapToObj(i -> new Book("hydration-" + i, "Hydration Book " + i, "H" + i, "Projection test."))
+                .collect(Collectors.toList()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        bookRepository.deleteAllInBatch(seeded);
+    }
+
+    @Test
+    void projectionPages_ShouldNotHydrateEntities() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        readPages(pageable -> bookRepository.findAll(pageable).getContent());
+        long entitiesLoaded = statistics.getEntityLoadCount();
+
+        statistics.clear();
+        readPages(pageable -> bookRepository.findRecordsBy(pageable).getContent());
+        long recordEntitiesLoaded = statistics.getEntityLoadCount();
+
+        assertEquals(ROWS, entitiesLoaded);
+        assertEquals(0, recordEntitiesLoaded);
+    }
+
+    private void readPages(Function<Pageable, List<?>> page) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            for (int pageNumber = 0; pageNumber < ROWS / PAGE_SIZE; pageNumber++) {
+                assertEquals(PAGE_SIZE, page.apply(PageRequest.of(pageNumber, PAGE_SIZE, Sort.by("id"))).size());
+            }
+        });
+    }
+}
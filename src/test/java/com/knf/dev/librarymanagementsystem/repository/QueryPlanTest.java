@@ -0,0 +1,118 @@
+package com.knf.dev.librarymanagementsystem.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Builds the schema from the Flyway migrations, as every non-test profile
+ * does, fills it with enough rows for the planner to tell a scan from an
+ * index, and checks with EXPLAIN that the catalog's hot queries are served
+ * by an index. A migration that drops or renames one of these indexes
+ * fails here before it reaches a large catalog.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplan;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=MySQL",
+        "spring.jpa.show-sql=false" })
+class QueryPlanTest {
+
+    private static final int BOOKS = 5000;
+
+    private static final int AUTHORS = 100;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        if (jdbc.queryForObject("select count(*) from books_authors", Long.class) > 0) {
+            return;
+        }
+        jdbc.batchUpdate("insert into authors (id, name, description) values (?, ?, '')",
+                IntStream.rangeClosed(1, AUTHORS).mapToObj(i -> new Object[] { -i, "Plan author " + i })
+                        .collect(Collectors.toList()));
+        jdbc.update("insert into categories (id, name) values (-1, 'Plan category')");
+        jdbc.update("insert into publishers (id, name) values (-1, 'Plan publisher')");
+        List<Object[]> books = IntStream.rangeClosed(1, BOOKS)
+                .mapToObj(i -> new Object[] { -i, "plan-" + i, "Plan book " + i, "S" + i % 50 })
+                .collect(Collectors.toList());
+        jdbc.batchUpdate("insert into books (id, isbn, name, serial_name, description) values (?, ?, ?, ?, '')", books);
+        List<Object[]> links = IntStream.rangeClosed(1, BOOKS).mapToObj(i -> new Object[] { -i, -(i % AUTHORS + 1) })
+                .collect(Collectors.toList());
+        jdbc.batchUpdate("insert into books_authors (book_id, author_id) values (?, ?)", links);
+        List<Object[]> tenth = books.subList(0, BOOKS / 10).stream().map(book -> new Object[] { book[0] })
+                .collect(Collectors.toList());
+        jdbc.batchUpdate("insert into books_categories (book_id, category_id) values (?, -1)", tenth);
+        jdbc.batchUpdate("insert into books_publishers (book_id, publisher_id) values (?, -1)", tenth);
+        jdbc.execute("analyze");
+    }
+
+    @Test
+    void bookPageSortedByName_ShouldReadNameIndexInOrder() {
+        assertSortedBy("IX_BOOKS_NAME", "select id, isbn, name, serial_name from books order by name, id limit 20");
+    }
+
+    @Test
+    void bookKeysetAfterName_ShouldReadNameIndexInOrder() {
+        assertSortedBy("IX_BOOKS_NAME", "select id, isbn, name, serial_name from books "
+                + "where name > 'Plan book 42' or (name = 'Plan book 42' and id > -42) order by name, id limit 20");
+    }
+
+    @Test
+    void bookPageSortedById_ShouldReadPrimaryKeyInOrder() {
+        assertSortedBy("PRIMARY_KEY",
+                "select id, isbn, name, serial_name from books where id > -100 order by id limit 20");
+    }
+
+    @Test
+    void booksOfSeries_ShouldUseSerialNameIndex() {
+        assertUses("IX_BOOKS_SERIAL_NAME", "select id from books where serial_name = 'S7'");
+    }
+
+    @Test
+    void existingIsbns_ShouldUseIsbnIndex() {
+        assertUses("UK_BOOKS_ISBN", "select isbn from books where isbn in ('plan-1', 'plan-2', 'missing')");
+    }
+
+    @Test
+    void booksOfAuthor_ShouldUseReverseJoinIndex() {
+        assertUses("IX_BOOKS_AUTHORS_AUTHOR", "select b.id, b.name from books_authors ba "
+                + "inner join books b on b.id = ba.book_id where ba.author_id = -7");
+    }
+
+    @Test
+    void booksOfCategory_ShouldUseReverseJoinIndex() {
+        assertUses("IX_BOOKS_CATEGORIES_CATEGORY", "select b.id, b.name from books_categories bc "
+                + "inner join books b on b.id = bc.book_id where bc.category_id = -1");
+    }
+
+    @Test
+    void booksOfPublisher_ShouldUseReverseJoinIndex() {
+        assertUses("IX_BOOKS_PUBLISHERS_PUBLISHER", "select b.id, b.name from books_publishers bp "
+                + "inner join books b on b.id = bp.book_id where bp.publisher_id = -1");
+    }
+
+    private String explain(String sql) {
+        return jdbc.queryForObject("explain " + sql, String.class);
+    }
+
+    private void assertUses(String index, String sql) {
+        String plan = explain(sql);
+        // H2 names the index it reads in a comment after each table: /* PUBLIC.IX_BOOKS_NAME */
+        assertTrue(plan.contains("/* PUBLIC." + index), () -> "expected " + index + " in plan:\n" + plan);
+    }
+
+    private void assertSortedBy(String index, String sql) {
+        assertUses(index, sql);
+        String plan = explain(sql);
+        assertTrue(plan.contains("/* index sorted */"), () -> "expected the index to supply the order:\n" + plan);
+    }
+}
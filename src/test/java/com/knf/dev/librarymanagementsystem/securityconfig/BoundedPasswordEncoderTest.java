@@ -0,0 +1,116 @@
+package com.knf.dev.librarymanagementsystem.securityconfig;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void shouldDelegateHashingAndRunItOffTheCallerThread() {
+        encoder = new BoundedPasswordEncoder(new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return Thread.currentThread().getName() + ":" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.endsWith(":" + rawPassword);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return true;
+            }
+        }, 1, 1, Duration.ofSeconds(5));
+
+        String encoded = encoder.encode("secret");
+
+        assertTrue(encoded.startsWith("password-hashing-"));
+        assertTrue(encoder.matches("secret", encoded));
+        assertFalse(encoder.matches("other", encoded));
+        assertTrue(encoder.upgradeEncoding(encoded));
+    }
+
+    @Test
+    void shouldRejectCallersBeyondTheQueue() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, Duration.ofSeconds(5));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // one thread busy and one queue slot: of the next two callers, one waits and one is turned away
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        CompletableFuture<String> third = CompletableFuture.supplyAsync(() -> encoder.encode("third"));
+        CompletableFuture<String> rejected = second.applyToEither(third, result -> result)
+                .handle((result, e) -> e == null ? "none" : e.getCause().getClass().getSimpleName());
+        String firstFailure = rejected.get(5, TimeUnit.SECONDS);
+
+        release.countDown();
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+        long failed = Stream.of(second, third).filter(call -> {
+            try {
+                call.get(5, TimeUnit.SECONDS);
+                return false;
+            } catch (Exception e) {
+                return e.getCause() instanceof AuthenticationServiceException;
+            }
+        }).count();
+        assertEquals("AuthenticationServiceException", firstFailure);
+        assertEquals(1, failed);
+    }
+
+    @Test
+    void shouldGiveUpAfterTimeout() {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, Duration.ofMillis(50));
+
+        assertThrows(AuthenticationServiceException.class, () -> encoder.matches("secret", "secret"));
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                await();
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                await();
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+
+    private void await() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.knf.dev.librarymanagementsystem.securityconfig;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the stateless mode with the real security configuration: tokens are
+ * issued for the seeded admin, authorize requests without a session or a
+ * database lookup, and refresh tokens are only good for refreshing.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tokens;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "library.security.stateless.enabled=true",
+        "library.security.token.secret=test-secret-of-at-least-thirty-two-bytes" })
+@AutoConfigureMockMvc
+class TokenAuthenticationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void accessToken_ShouldAuthorizeWithoutSessionOrDatabase() throws Exception {
+        JsonNode tokens = token("admin@admin.in", "Temp123");
+        assertEquals("Bearer", tokens.get("token_type").asText());
+        assertEquals(900, tokens.get("expires_in").asLong());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        MvcResult page = mockMvc.perform(get("/addCategory").header(HttpHeaders.AUTHORIZATION, bearer(tokens, "access_token")))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertNull(page.getRequest().getSession(false));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void tokenEndpoint_ShouldRejectBadCredentials() throws Exception {
+        mockMvc.perform(post("/auth/token").param("username", "admin@admin.in").param("password", "wrong"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void invalidOrMisusedTokens_ShouldBeRejected() throws Exception {
+        JsonNode tokens = token("admin@admin.in", "Temp123");
+
+        mockMvc.perform(get("/addCategory").header(HttpHeaders.AUTHORIZATION, bearer(tokens, "refresh_token")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/addCategory").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/auth/refresh").param("refresh_token", tokens.get("access_token").asText()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void refreshToken_ShouldIssueWorkingAccessToken() throws Exception {
+        JsonNode tokens = token("admin@admin.in", "Temp123");
+
+        String body = mockMvc.perform(post("/auth/refresh").param("refresh_token", tokens.get("refresh_token").asText()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/addCategory").header(HttpHeaders.AUTHORIZATION, bearer(objectMapper.readTree(body), "access_token")))
+                .andExpect(status().isOk());
+    }
+
+    private JsonNode token(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/auth/token").param("username", username).param("password", password))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static String bearer(JsonNode tokens, String field) {
+        return "Bearer " + tokens.get(field).asText();
+    }
+}
@@ -1,8 +1,11 @@
 package com.knf.dev.librarymanagementsystem.service.impl;
 
+import com.knf.dev.librarymanagementsystem.constant.Item;
 import com.knf.dev.librarymanagementsystem.entity.Author;
 import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
 import com.knf.dev.librarymanagementsystem.repository.AuthorRepository;
+import com.knf.dev.librarymanagementsystem.util.CatalogVersions;
+import com.knf.dev.librarymanagementsystem.vo.AuthorRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -18,6 +21,9 @@ class AuthorServiceTest {
     @Mock
     private AuthorRepository authorRepository;
 
+    @Mock
+    private CatalogVersions catalogVersions;
+
     @InjectMocks
     private AuthorServiceImpl authorService;
 
@@ -81,6 +87,7 @@ class AuthorServiceTest {
 
         verify(authorRepository, times(1)).findById(1L);
         verify(authorRepository, times(1)).deleteById(1L);
+        verify(catalogVersions).bump(Item.AUTHOR);
     }
 
     @Test
@@ -94,35 +101,31 @@ class AuthorServiceTest {
 
     @Test
     void findPaginated_ShouldReturnCorrectPage() {
-        List<Author> fullList = new ArrayList<>();
-        for (int i = 1; i <= 10; i++) {
-            Author a = new Author("Author " + i, "Desc " + i);
-            a.setId((long) i);
-            fullList.add(a);
+        List<AuthorRecord> pageContent = new ArrayList<>();
+        for (int i = 4; i <= 6; i++) {
+            pageContent.add(new AuthorRecord((long) i, "Author " + i, "Desc " + i));
         }
 
-        when(authorRepository.findAll()).thenReturn(fullList);
+        when(authorRepository.findRecordsBy(any(Pageable.class))).thenReturn(new SliceImpl<>(pageContent));
+        when(authorRepository.count()).thenReturn(10L);
 
         Pageable pageable = PageRequest.of(1, 3); // page 1, size 3 → items 4-6
-        Page<Author> page = authorService.findPaginated(pageable);
+        Page<AuthorRecord> page = authorService.findPaginated(pageable);
 
         assertEquals(3, page.getContent().size());
-        assertEquals("Author 4", page.getContent().get(0).getName());
-        assertEquals("Author 6", page.getContent().get(2).getName());
+        assertEquals("Author 4", page.getContent().get(0).name());
+        assertEquals("Author 6", page.getContent().get(2).name());
         assertEquals(10, page.getTotalElements());
+        verify(authorRepository, never()).findAll();
     }
 
     @Test
     void findPaginated_ShouldReturnEmpty_WhenOutOfBounds() {
-        List<Author> fullList = new ArrayList<>();
-        for (int i = 1; i <= 5; i++) {
-            fullList.add(new Author("Author " + i, "Desc " + i));
-        }
-
-        when(authorRepository.findAll()).thenReturn(fullList);
+        when(authorRepository.findRecordsBy(any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList()));
+        when(authorRepository.count()).thenReturn(5L);
 
         Pageable pageable = PageRequest.of(3, 5); // page 3, size 5 → startIndex = 15 (out of bounds)
-        Page<Author> page = authorService.findPaginated(pageable);
+        Page<AuthorRecord> page = authorService.findPaginated(pageable);
 
         assertTrue(page.getContent().isEmpty());
     }
@@ -1,12 +1,20 @@
 package com.knf.dev.librarymanagementsystem.service.impl;
 
+import com.knf.dev.librarymanagementsystem.constant.Item;
 import com.knf.dev.librarymanagementsystem.entity.Book;
 import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
 import com.knf.dev.librarymanagementsystem.repository.BookRepository;
+import com.knf.dev.librarymanagementsystem.util.CatalogVersions;
+import com.knf.dev.librarymanagementsystem.vo.BookListRecord;
+import com.knf.dev.librarymanagementsystem.vo.BookRecord;
+import com.knf.dev.librarymanagementsystem.vo.BookRelationName;
+import com.knf.dev.librarymanagementsystem.vo.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.util.*;
 
@@ -18,16 +26,22 @@ class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private CatalogVersions catalogVersions;
+
     @InjectMocks
     private BookServiceImpl bookService;
 
     private Book testBook;
 
+    private BookRecord testRecord;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         testBook = new Book("ISBN123", "Unit Test Book", "SerialX", "Book for testing");
         testBook.setId(1L);
+        testRecord = new BookRecord(1L, "ISBN123", "Unit Test Book", "SerialX", "Book for testing");
     }
 
     @Test
@@ -43,42 +57,155 @@ class BookServiceTest {
     }
 
     @Test
-    void searchBooks_WithKeyword_ShouldCallSearch() {
-        when(bookRepository.search("Test")).thenReturn(List.of(testBook));
+    void searchBooks_WithKeyword_ShouldUseSearchIndex() {
+        bookService.createBook(testBook);
+        when(bookRepository.findRecordsByIdIn(List.of(1L))).thenReturn(List.of(testRecord));
 
-        List<Book> result = bookService.searchBooks("Test");
+        List<BookRecord> result = bookService.searchBooks("Test");
 
         assertEquals(1, result.size());
-        verify(bookRepository).search("Test");
+        verify(bookRepository).findRecordsByIdIn(List.of(1L));
     }
 
     @Test
-    void searchBooks_NullKeyword_ShouldCallFindAll() {
-        when(bookRepository.findAll()).thenReturn(List.of(testBook));
+    void searchPaginated_ShouldRankByRelevanceAndFollowIndexUpdates() {
+        Book serialOnly = new Book("ISBN9", "Other Title", "Testing Series", "Book for testing");
+        serialOnly.setId(2L);
+        bookService.createBook(serialOnly);
+        bookService.createBook(testBook);
+        BookRecord serialOnlyRecord = new BookRecord(2L, "ISBN9", "Other Title", "Testing Series", "Book for testing");
+        when(bookRepository.findRecordsByIdIn(List.of(1L, 2L))).thenReturn(List.of(serialOnlyRecord, testRecord));
+
+        Page<BookRecord> page = bookService.searchPaginated("test", PageRequest.of(0, 10));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(1L, page.getContent().get(0).id()); // name match outranks serial name match
+
+        when(bookRepository.findById(1L)).thenReturn(Optional.of(testBook));
+        bookService.deleteBook(1L);
+        when(bookRepository.findRecordsByIdIn(List.of(2L))).thenReturn(List.of(serialOnlyRecord));
 
-        List<Book> result = bookService.searchBooks(null);
+        assertEquals(1, bookService.searchPaginated("test", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void indexUpdates_ShouldWaitForTheTransactionToCommit() {
+        when(bookRepository.findById(1L)).thenReturn(Optional.of(testBook));
+        when(bookRepository.findRecordsByIdIn(List.of(1L))).thenReturn(List.of(testRecord));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookService.createBook(testBook);
+            assertEquals(0, bookService.searchPaginated("unit", PageRequest.of(0, 5)).getTotalElements());
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(1, bookService.searchPaginated("unit", PageRequest.of(0, 5)).getTotalElements());
+
+        // rolled back: the synchronization is dropped without afterCommit
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookService.deleteBook(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(1, bookService.searchPaginated("unit", PageRequest.of(0, 5)).getTotalElements());
+    }
+
+    @Test
+    void rebuildSearchIndex_ShouldLoadCatalogInChunks() {
+        when(bookRepository.findRecordsAfterId(eq(0L), any(Pageable.class))).thenReturn(List.of(testRecord));
+        when(bookRepository.findRecordsByIdIn(List.of(1L))).thenReturn(List.of(testRecord));
+
+        bookService.rebuildSearchIndex();
+
+        assertEquals(1, bookService.searchPaginated("unit", PageRequest.of(0, 5)).getTotalElements());
+        verify(bookRepository, never()).findAll();
+    }
+
+    @Test
+    void searchBooks_NullKeyword_ShouldReturnBoundedCatalogPage() {
+        when(bookRepository.findRecordsBy(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(testRecord)));
+        when(bookRepository.count()).thenReturn(1L);
+
+        List<BookRecord> result = bookService.searchBooks(null);
 
         assertEquals(1, result.size());
-        verify(bookRepository).findAll();
+        verify(bookRepository).findRecordsBy(PageRequest.of(0, BookServiceImpl.MAX_SEARCH_RESULTS, Sort.by("id")));
+        verify(bookRepository, never()).findAll();
+    }
+
+    @Test
+    void searchPaginated_ShouldCapResultsAndTotal() {
+        for (long i = 1; i <= BookServiceImpl.MAX_SEARCH_RESULTS + 10; i++) {
+            Book b = new Book("ISBN" + i, "Capped Book", "S" + i, "Test Book");
+            b.setId(i);
+            bookService.createBook(b);
+        }
+        when(bookRepository.findRecordsByIdIn(any())).thenReturn(List.of(testRecord));
+
+        Page<BookRecord> page = bookService.searchPaginated("capped", PageRequest.of(0, 5));
+        Page<BookRecord> beyondCap = bookService.searchPaginated("capped", PageRequest.of(100, 5));
+
+        assertEquals(BookServiceImpl.MAX_SEARCH_RESULTS, page.getTotalElements());
+        assertTrue(beyondCap.getContent().isEmpty());
+        verify(bookRepository, times(1)).findRecordsByIdIn(any());
     }
 
     @Test
     void findBookById_ShouldReturnBook_WhenExists() {
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(testBook));
+        when(bookRepository.findByIdWithRelations(1L)).thenReturn(Optional.of(testBook));
 
         Book result = bookService.findBookById(1L);
 
         assertNotNull(result);
         assertEquals("Unit Test Book", result.getName());
-        verify(bookRepository).findById(1L);
+        verify(bookRepository).findByIdWithRelations(1L);
     }
 
     @Test
     void findBookById_ShouldThrowException_WhenNotFound() {
-        when(bookRepository.findById(1L)).thenReturn(Optional.empty());
+        when(bookRepository.findByIdWithRelations(1L)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> bookService.findBookById(1L));
-        verify(bookRepository).findById(1L);
+        verify(bookRepository).findByIdWithRelations(1L);
+    }
+
+    @Test
+    void findBookRecordById_ShouldReadTheProjection() {
+        BookRecord record = new BookRecord(1L, "ISBN1", "Unit Test Book", "S1", "Test Book");
+        when(bookRepository.findRecordById(1L)).thenReturn(Optional.of(record));
+
+        assertEquals(record, bookService.findBookRecordById(1L));
+        verify(bookRepository, never()).findByIdWithRelations(1L);
+    }
+
+    @Test
+    void findBookRecordById_ShouldThrowException_WhenNotFound() {
+        when(bookRepository.findRecordById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> bookService.findBookRecordById(1L));
+    }
+
+    @Test
+    void withRelationNames_ShouldGroupNamesByBookInPageOrder() {
+        BookRecord first = new BookRecord(2L, "ISBN2", "Book 2", "S2", "Test Book");
+        BookRecord second = new BookRecord(1L, "ISBN1", "Book 1", "S1", "Test Book");
+        when(bookRepository.findAuthorNamesByBookIdIn(List.of(2L, 1L))).thenReturn(List.of(
+                new BookRelationName(1L, "Ann"), new BookRelationName(2L, "Bob"), new BookRelationName(1L, "Cid")));
+        when(bookRepository.findCategoryNamesByBookIdIn(List.of(2L, 1L))).thenReturn(List.of(
+                new BookRelationName(2L, "Fiction")));
+        when(bookRepository.findPublisherNamesByBookIdIn(List.of(2L, 1L))).thenReturn(List.of());
+
+        List<BookListRecord> result = bookService.withRelationNames(List.of(first, second));
+
+        assertEquals(List.of(
+                new BookListRecord(2L, "ISBN2", "Book 2", "S2", "Test Book", List.of("Bob"), List.of("Fiction"), List.of()),
+                new BookListRecord(1L, "ISBN1", "Book 1", "S1", "Test Book", List.of("Ann", "Cid"), List.of(), List.of())),
+                result);
+        assertTrue(bookService.withRelationNames(List.of()).isEmpty());
+        verify(bookRepository, times(1)).findAuthorNamesByBookIdIn(any());
     }
 
     @Test
@@ -87,6 +214,17 @@ class BookServiceTest {
         verify(bookRepository).save(testBook);
     }
 
+    @Test
+    void createBooks_ShouldSaveAllAndIndexEachBook() {
+        when(bookRepository.findRecordsByIdIn(List.of(1L))).thenReturn(List.of(testRecord));
+
+        bookService.createBooks(List.of(testBook));
+
+        verify(bookRepository).saveAll(List.of(testBook));
+        verify(bookRepository, never()).save(any());
+        assertEquals(1, bookService.searchPaginated("unit", PageRequest.of(0, 5)).getTotalElements());
+    }
+
     @Test
     void updateBook_ShouldCallSave() {
         bookService.updateBook(testBook);
@@ -101,6 +239,7 @@ class BookServiceTest {
 
         verify(bookRepository).findById(1L);
         verify(bookRepository).deleteById(1L);
+        verify(catalogVersions).bump(Item.values());
     }
 
     @Test
@@ -113,36 +252,80 @@ class BookServiceTest {
     }
 
     @Test
-    void findPaginated_ShouldReturnCorrectPage() {
-        List<Book> fullList = new ArrayList<>();
-        for (int i = 1; i <= 10; i++) {
-            Book b = new Book("ISBN" + i, "Book " + i, "S" + i, "Test Book");
-            b.setId((long) i);
-            fullList.add(b);
+    void findPaginated_ShouldQueryOnlyRequestedPage() {
+        List<BookRecord> pageContent = new ArrayList<>();
+        for (int i = 4; i <= 6; i++) {
+            pageContent.add(new BookRecord((long) i, "ISBN" + i, "Book " + i, "S" + i, "Test Book"));
         }
 
-        when(bookRepository.findAll()).thenReturn(fullList);
+        when(bookRepository.findRecordsBy(any(Pageable.class))).thenReturn(new SliceImpl<>(pageContent));
+        when(bookRepository.count()).thenReturn(10L);
 
         Pageable pageable = PageRequest.of(1, 3); // page 1, size 3 → 4th, 5th, 6th
-        Page<Book> page = bookService.findPaginated(pageable);
+        Page<BookRecord> page = bookService.findPaginated(pageable);
 
         assertEquals(3, page.getContent().size());
-        assertEquals("Book 4", page.getContent().get(0).getName());
+        assertEquals("Book 4", page.getContent().get(0).name());
         assertEquals(10, page.getTotalElements());
+        verify(bookRepository).findRecordsBy(PageRequest.of(1, 3, Sort.by("id")));
+        verify(bookRepository, never()).findAll();
     }
 
     @Test
     void findPaginated_ShouldReturnEmpty_WhenOutOfBounds() {
-        List<Book> fullList = new ArrayList<>();
-        for (int i = 1; i <= 5; i++) {
-            fullList.add(new Book("ISBN" + i, "Book " + i, "S" + i, "Test Book"));
-        }
-
-        when(bookRepository.findAll()).thenReturn(fullList);
+        when(bookRepository.findRecordsBy(any(Pageable.class))).thenReturn(new SliceImpl<>(Collections.emptyList()));
+        when(bookRepository.count()).thenReturn(5L);
 
         Pageable pageable = PageRequest.of(2, 5); // page 2, size 5 → startIndex 10 (out of bounds)
-        Page<Book> page = bookService.findPaginated(pageable);
+        Page<BookRecord> page = bookService.findPaginated(pageable);
 
         assertTrue(page.getContent().isEmpty());
     }
+
+    @Test
+    void findPaginated_ShouldCacheCountUntilCatalogChanges() {
+        when(bookRepository.findRecordsBy(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(testRecord)));
+        when(bookRepository.count()).thenReturn(1L);
+
+        bookService.findPaginated(PageRequest.of(0, 5));
+        bookService.findPaginated(PageRequest.of(0, 5));
+        verify(bookRepository, times(1)).count();
+
+        bookService.createBook(testBook);
+        bookService.findPaginated(PageRequest.of(0, 5));
+        verify(bookRepository, times(2)).count();
+    }
+
+    @Test
+    void findSliceAfter_ById_ShouldSeekPastCursor() {
+        BookRecord next = new BookRecord(2L, "ISBN2", "Book 2", "S2", "Test Book");
+        when(bookRepository.findRecordsAfterId(eq(1L), any(Pageable.class))).thenReturn(List.of(next, testRecord));
+
+        Slice<BookRecord> slice = bookService.findSliceAfter(KeysetCursor.start("id").next(1L, "Unit Test Book"), 1);
+
+        assertEquals(1, slice.getNumberOfElements());
+        assertEquals("Book 2", slice.getContent().get(0).name());
+        assertTrue(slice.hasNext());
+        verify(bookRepository).findRecordsAfterId(1L, PageRequest.of(0, 2));
+    }
+
+    @Test
+    void findSliceAfter_ByName_ShouldSeekPastNameAndId() {
+        when(bookRepository.findRecordsAfterName(eq("Alpha"), eq(7L), any(Pageable.class))).thenReturn(List.of(testRecord));
+
+        Slice<BookRecord> slice = bookService.findSliceAfter(new KeysetCursor("name", 7L, "Alpha"), 5);
+
+        assertEquals(1, slice.getNumberOfElements());
+        assertFalse(slice.hasNext());
+        verify(bookRepository, never()).findRecordsAfterId(any(), any());
+    }
+
+    @Test
+    void keysetCursor_ShouldRoundTripAndRejectGarbage() {
+        KeysetCursor cursor = new KeysetCursor("name", 42L, "Spring in Action");
+
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode(), "id"));
+        assertEquals(KeysetCursor.start("id"), KeysetCursor.decode("not-a-cursor", "id"));
+        assertEquals(KeysetCursor.start("name"), KeysetCursor.decode("", "name"));
+    }
 }
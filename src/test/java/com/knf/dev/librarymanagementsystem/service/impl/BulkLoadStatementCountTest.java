@@ -0,0 +1,121 @@
+package com.knf.dev.librarymanagementsystem.service.impl;
+
+import com.knf.dev.librarymanagementsystem.entity.Author;
+import com.knf.dev.librarymanagementsystem.entity.Book;
+import com.knf.dev.librarymanagementsystem.entity.Category;
+import com.knf.dev.librarymanagementsystem.entity.Publisher;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bulk-loads books with their relations under the production persistence
+ * profile, once with JDBC batching switched off for the session and once
+ * with the profile's settings, and counts the statements of both and the
+ * sequence calls of the batched load. Runs against its own in-memory
+ * database.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bulkload;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles({ "prod", "test" })
+class BulkLoadStatementCountTest {
+
+    private static final int BOOKS = 500;
+
+    // books, authors, categories and publishers each draw ids from their own sequence
+    private static final List<String> SEQUENCES = List.of("BOOK_SEQ", "AUTHOR_SEQ", "CATEGORY_SEQ", "PUBLISHER_SEQ");
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void createBooks_ShouldBatchInserts() {
+        long unbatched = load("unbatched", 1);
+        long batched = load("batched", null);
+
+        // seven rows per book, each its own statement without batching
+        assertTrue(unbatched >= BOOKS * 7L, "expected a statement per row but was " + unbatched);
+        assertTrue(batched * 10 <= unbatched,
+                "expected batched load to need a tenth of the statements but was " + batched);
+    }
+
+    @Test
+    void createBooks_ShouldPoolSequenceCalls() {
+        long before = sequenceCalls();
+        load("pooled", null);
+        long calls = sequenceCalls() - before;
+
+        // one call per 50 ids; a generator without pooling would call each sequence once per row, 4 * BOOKS in all
+        long pooled = SEQUENCES.size() * (long) (BOOKS / ALLOCATION_SIZE);
+        assertTrue(calls >= pooled && calls <= pooled + SEQUENCES.size(),
+                "expected about " + pooled + " sequence calls but was " + calls);
+    }
+
+    private long load(String prefix, Integer jdbcBatchSize) {
+        List<Book> books = IntStream.range(0, BOOKS)
+                .mapToObj(i -> bookWithRelations(prefix + "-" + i))
+                .collect(Collectors.toList());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        statistics.clear();
+        transaction.executeWithoutResult(status -> {
+            // null falls back to hibernate.jdbc.batch_size from the profile
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            bookService.createBooks(books);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    // each call advances its sequence by the allocation size
+    private long sequenceCalls() {
+        return SEQUENCES.stream().mapToLong(sequence -> jdbcTemplate.queryForObject(
+                "select current_value from information_schema.sequences where sequence_name = ?", Long.class,
+                sequence) / ALLOCATION_SIZE).sum();
+    }
+
+    private static Book bookWithRelations(String name) {
+        Book book = new Book(name + "-isbn", name, name + "-serial", "Bulk load test.");
+        book.addAuthors(new Author(name + " author", "Bulk load test."));
+        book.addCategories(new Category(name + " category"));
+        book.addPublishers(new Publisher(name + " publisher"));
+        return book;
+    }
+}
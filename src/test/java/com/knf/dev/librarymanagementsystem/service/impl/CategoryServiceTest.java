@@ -1,9 +1,17 @@
 package com.knf.dev.librarymanagementsystem.service.impl;
+import com.knf.dev.librarymanagementsystem.constant.Item;
 import com.knf.dev.librarymanagementsystem.entity.Category;
 import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
 import com.knf.dev.librarymanagementsystem.repository.CategoryRepository;
+import com.knf.dev.librarymanagementsystem.util.CatalogVersions;
+import com.knf.dev.librarymanagementsystem.vo.CategoryRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.mockito.*;
 
 import java.util.List;
@@ -15,6 +23,9 @@ public class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CatalogVersions catalogVersions;
+
     @InjectMocks
     private CategoryServiceImpl categoryService;
 
@@ -80,6 +91,7 @@ public class CategoryServiceTest {
 
         verify(categoryRepository).findById(1L);
         verify(categoryRepository).deleteById(1L);
+        verify(catalogVersions).bump(Item.CATEGORY);
     }
 
     @Test
@@ -90,4 +102,18 @@ public class CategoryServiceTest {
         verify(categoryRepository).findById(1L);
         verify(categoryRepository, never()).deleteById(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findPaginated_ShouldDelegateToBoundedQuery() {
+        when(categoryRepository.findRecordsBy(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(new CategoryRecord(1L, "Science"))));
+        when(categoryRepository.count()).thenReturn(1L);
+
+        Page<CategoryRecord> page = categoryService.findPaginated(PageRequest.of(0, 5));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals("Science", page.getContent().get(0).name());
+        verify(categoryRepository).findRecordsBy(PageRequest.of(0, 5, Sort.by("id")));
+        verify(categoryRepository, never()).findAll();
+    }
+}
@@ -0,0 +1,172 @@
+package com.knf.dev.librarymanagementsystem.service.impl;
+
+import com.knf.dev.librarymanagementsystem.entity.Book;
+import com.knf.dev.librarymanagementsystem.repository.AuthorRepository;
+import com.knf.dev.librarymanagementsystem.repository.BookRepository;
+import com.knf.dev.librarymanagementsystem.repository.CategoryRepository;
+import com.knf.dev.librarymanagementsystem.repository.PublisherRepository;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import com.knf.dev.librarymanagementsystem.service.FileService;
+import com.knf.dev.librarymanagementsystem.vo.ImportError;
+import com.knf.dev.librarymanagementsystem.vo.ImportReport;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Imports a few chunks' worth of books with shared relations and a handful of
+ * bad rows under the production persistence profile, checks that relations
+ * are deduplicated by name and every bad row is reported, and that an upload
+ * through the controller does not pile its chunks up in the request's
+ * persistence context. Runs against its own in-memory database; the import
+ * throughput is measured by CsvImportBenchmark in the jmh profile.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:csvimport;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureMockMvc
+@ActiveProfiles({ "prod", "test" })
+class CsvImportTest {
+
+    private static final int BOOKS = CsvImport.CHUNK_SIZE * 3 + 500;
+
+    private static final int AUTHORS = 200;
+
+    private static final int CATEGORIES = 20;
+
+    private static final int PUBLISHERS = 50;
+
+    @Autowired
+    private FileService fileService;
+
+    @SpyBean
+    private BookService bookService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PublisherRepository publisherRepository;
+
+    @Test
+    void importCSV_ShouldDeduplicateRelationsAndReportBadRows() throws Exception {
+        StringBuilder csv = new StringBuilder("ID,ISBN,NAME,SERIALNAME,DESCRIPTION,AUTHORS,CATEGORIES,PUBLISHERS\n");
+        for (int i = 0; i < BOOKS; i++) {
+            csv.append(String.format(",import-%d,Imported Book %d,S%d,Import test.,Author %d|Author %d,Category %d,Publisher %d%n",
+                    i, i, i, i % AUTHORS, (i + 1) % AUTHORS, i % CATEGORIES, i % PUBLISHERS));
+        }
+        // header is line 1, so these are lines BOOKS + 2 to BOOKS + 4
+        csv.append(",import-0,Repeated ISBN,S,Import test.,Author 0,,\n");
+        csv.append(",,No ISBN,S,Import test.,,,\n");
+        csv.append(",import-long,Long serial,").append("S".repeat(51)).append(",Import test.,,,\n");
+
+        long books = bookRepository.count();
+        long authors = authorRepository.count();
+        long categories = categoryRepository.count();
+        long publishers = publisherRepository.count();
+
+        ImportReport report = fileService.importCSV("all-book",
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(BOOKS, report.imported());
+        assertEquals(3, report.rejected());
+        assertEquals(new ImportError(BOOKS + 3, "ISBN is required"), report.errors().get(0));
+        assertEquals(new ImportError(BOOKS + 4, "SERIALNAME is longer than 50 characters"), report.errors().get(1));
+        // the repeated ISBN belongs to the first chunk and is only caught against the database
+        assertEquals(new ImportError(BOOKS + 2, "ISBN 'import-0' already exists"), report.errors().get(2));
+        assertEquals(books + BOOKS, bookRepository.count());
+        assertEquals(authors + AUTHORS, authorRepository.count());
+        assertEquals(categories + CATEGORIES, categoryRepository.count());
+        assertEquals(publishers + PUBLISHERS, publisherRepository.count());
+        Long id = jdbcTemplate.queryForObject("select id from books where isbn = ?", Long.class, "import-0");
+        Book book = bookRepository.findByIdWithRelations(id).orElseThrow();
+        assertEquals(2, book.getAuthors().size());
+        assertEquals(1, book.getCategories().size());
+        assertEquals(1, book.getPublishers().size());
+    }
+
+    @Test
+    void importCSV_RolledBackChunk_ShouldLeaveSearchUnchanged() throws Exception {
+        String csv = "ID,ISBN,NAME,SERIALNAME,DESCRIPTION,AUTHORS,CATEGORIES,PUBLISHERS\n"
+                + ",rollback-1,Rolledback Book,S,Import test.,,,\n"
+                + ",rollback-2,Rolledback Book,S,Import test.,,,\n";
+        long total = bookService.searchPaginated("rolledback", PageRequest.of(0, 10)).getTotalElements();
+        long books = bookRepository.count();
+
+        // passes validation but not the database, so the whole chunk fails on commit
+        jdbcTemplate.execute("alter table books add constraint ck_no_rollback_2 check (isbn <> 'rollback-2')");
+        ImportReport report;
+        try {
+            report = fileService.importCSV("all-book", new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        } finally {
+            jdbcTemplate.execute("alter table books drop constraint ck_no_rollback_2");
+        }
+
+        assertEquals(0, report.imported());
+        assertEquals(2, report.rejected());
+        assertEquals(books, bookRepository.count());
+        assertEquals(total, bookService.searchPaginated("rolledback", PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(total, bookService.searchPaginated("rollback", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    @WithMockUser
+    void importUpload_ShouldLeaveNoEntitiesInTheRequestPersistenceContextBetweenChunks() throws Exception {
+        StringBuilder csv = new StringBuilder("ISBN,NAME,SERIALNAME,DESCRIPTION,AUTHORS,CATEGORIES,PUBLISHERS\n");
+        for (int i = 0; i < CsvImport.CHUNK_SIZE * 3; i++) {
+            csv.append(String.format("upload-%d,Uploaded Book %d,S%d,Import test.,Upload Author %d,Upload Category,Upload Publisher%n",
+                    i, i, i, i % AUTHORS));
+        }
+        // every chunk, and the final empty one, starts by looking up its ISBNs, after the chunk before it committed
+        List<Integer> managed = new ArrayList<>();
+        doAnswer(invocation -> {
+            EntityManagerHolder request = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+            assertNotNull(request, "the upload should run inside the request's persistence context");
+            managed.add(request.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+            return invocation.callRealMethod();
+        }).when(bookService).findExistingIsbns(anyCollection());
+
+        mockMvc.perform(multipart("/import/all-book").file(new MockMultipartFile("file", "books.csv", "text/csv",
+                        csv.toString().getBytes(StandardCharsets.UTF_8))))
+                .andExpect(status().isOk());
+
+        assertEquals(List.of(0, 0, 0, 0), managed);
+    }
+}
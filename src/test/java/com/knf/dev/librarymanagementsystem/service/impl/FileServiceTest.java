@@ -1,25 +1,42 @@
 package com.knf.dev.librarymanagementsystem.service.impl;
 
-import com.knf.dev.librarymanagementsystem.constant.Item;
+import com.knf.dev.librarymanagementsystem.config.ExportConfiguration;
 import com.knf.dev.librarymanagementsystem.entity.Author;
 import com.knf.dev.librarymanagementsystem.entity.Book;
-import com.knf.dev.librarymanagementsystem.entity.Category;
-import com.knf.dev.librarymanagementsystem.entity.Publisher;
+import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
 import com.knf.dev.librarymanagementsystem.service.AuthorService;
 import com.knf.dev.librarymanagementsystem.service.BookService;
 import com.knf.dev.librarymanagementsystem.service.CategoryService;
+import com.knf.dev.librarymanagementsystem.service.CsvExport;
 import com.knf.dev.librarymanagementsystem.service.PublisherService;
+import com.knf.dev.librarymanagementsystem.vo.AuthorRecord;
+import com.knf.dev.librarymanagementsystem.vo.BookRecord;
+import com.knf.dev.librarymanagementsystem.vo.CategoryRecord;
+import com.knf.dev.librarymanagementsystem.vo.ImportError;
+import com.knf.dev.librarymanagementsystem.vo.ImportReport;
+import com.knf.dev.librarymanagementsystem.vo.PublisherRecord;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
-import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.persistence.EntityManager;
 import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -37,7 +54,18 @@ class FileServiceTest {
     @Mock
     private PublisherService publisherService;
 
-    @InjectMocks
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<Author>> createdAuthors;
+
+    @Captor
+    private ArgumentCaptor<List<Book>> createdBooks;
+
     private FileServiceImpl fileService;
 
     @Mock
@@ -48,15 +76,18 @@ class FileServiceTest {
     @BeforeEach
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this);
+        ExportConfiguration exports = new ExportConfiguration();
+        fileService = new FileServiceImpl(List.of(exports.bookExport(bookService), exports.authorExport(authorService),
+                exports.categoryExport(categoryService), exports.publisherExport(publisherService)),
+                bookService, authorService, publisherService, categoryService, entityManager, transactionManager);
         stringWriter = new StringWriter();
         when(response.getWriter()).thenReturn(new PrintWriter(stringWriter));
     }
 
     @Test
     void testExportCSV_Book() throws Exception {
-        Book book = new Book("123", "TestBook", "Series", "Desc");
-        book.setId(1L);
-        when(bookService.findAllBooks()).thenReturn(List.of(book));
+        BookRecord book = new BookRecord(1L, "123", "TestBook", "Series", "Desc");
+        when(bookService.streamAllBooks()).thenReturn(Stream.of(book));
 
         fileService.exportCSV("all-book", response);
 
@@ -67,12 +98,9 @@ class FileServiceTest {
 
     @Test
     void testExportCSV_Author() throws Exception {
-        Author author = new Author();
-        author.setId(1L);
-        author.setName("Ali Veli");
-        author.setDescription("Famous Turkish Author");
+        AuthorRecord author = new AuthorRecord(1L, "Ali Veli", "Famous Turkish Author");
 
-        when(authorService.findAllAuthors()).thenReturn(List.of(author));
+        when(authorService.streamAllAuthors()).thenReturn(Stream.of(author));
 
         fileService.exportCSV("all-author", response);
 
@@ -84,11 +112,9 @@ class FileServiceTest {
 
     @Test
     void testExportCSV_Category() throws Exception {
-        Category category = new Category();
-        category.setId(1L);
-        category.setName("Fiction");
+        CategoryRecord category = new CategoryRecord(1L, "Fiction");
 
-        when(categoryService.findAllCategories()).thenReturn(List.of(category));
+        when(categoryService.streamAllCategories()).thenReturn(Stream.of(category));
 
         fileService.exportCSV("all-category", response);
 
@@ -98,15 +124,151 @@ class FileServiceTest {
 
     @Test
     void testExportCSV_Publisher() throws Exception {
-        Publisher publisher = new Publisher();
-        publisher.setId(1L);
-        publisher.setName("Penguin");
+        PublisherRecord publisher = new PublisherRecord(1L, "Penguin");
 
-        when(publisherService.findAllPublishers()).thenReturn(List.of(publisher));
+        when(publisherService.streamAllPublishers()).thenReturn(Stream.of(publisher));
 
         fileService.exportCSV("all-publisher", response);
 
         String output = stringWriter.toString();
         assertTrue(output.contains("Penguin"));
     }
+
+    @Test
+    void testExportCSV_ShouldKeepTheBeanWriterFormat() throws Exception {
+        when(bookService.streamAllBooks()).thenReturn(Stream.of(
+                new BookRecord(1L, "i,1", "Say \"hi\"", null, "Two\nlines"),
+                new BookRecord(22L, "i2", "Plain", "S", "D")));
+
+        fileService.exportCSV("all-book", response);
+
+        assertEquals("DESCRIPTION,ID,ISBN,NAME,SERIALNAME\n"
+                + "Two\"\nlines,1,i\",1,Say \"\"hi\"\",\n"
+                + "D,22,i2,Plain,S\n", stringWriter.toString());
+    }
+
+    @Test
+    void testExportCSV_Empty_ShouldWriteNothing() throws Exception {
+        when(publisherService.streamAllPublishers()).thenReturn(Stream.empty());
+
+        fileService.exportCSV("all-publisher", response);
+
+        assertEquals("", stringWriter.toString());
+    }
+
+    @Test
+    void testExportCSV_UnknownItem_ShouldThrowNotFoundBeforeWriting() throws Exception {
+        assertThrows(NotFoundException.class, () -> fileService.exportCSV("all-nothing", response));
+
+        verify(response, never()).setContentType(anyString());
+        verify(response, never()).getWriter();
+    }
+
+    @Test
+    void testExportCSV_ItemWithoutExportBean_ShouldThrowNotFound() {
+        FileServiceImpl booksOnly = new FileServiceImpl(List.of(new ExportConfiguration().bookExport(bookService)),
+                bookService, authorService, publisherService, categoryService, entityManager, transactionManager);
+
+        assertThrows(NotFoundException.class, () -> booksOnly.exportCSV("all-author", response));
+        verify(authorService, never()).streamAllAuthors();
+    }
+
+    @Test
+    void constructor_TwoExportsForOneItem_ShouldFail() {
+        ExportConfiguration exports = new ExportConfiguration();
+        List<CsvExport<?>> twice = List.of(exports.bookExport(bookService), exports.bookExport(bookService));
+
+        assertThrows(IllegalStateException.class, () -> new FileServiceImpl(twice, bookService, authorService,
+                publisherService, categoryService, entityManager, transactionManager));
+    }
+
+    @Test
+    void testExportCSV_ShouldStreamRecordsAndFlushPeriodically() throws Exception {
+        int rows = FileServiceImpl.FLUSH_INTERVAL * 2 + 1;
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<BookRecord> books = LongStream.rangeClosed(1, rows)
+                .mapToObj(i -> new BookRecord(i, "ISBN" + i, "Book " + i, "S" + i, "Desc"))
+                .onClose(() -> closed.set(true));
+        when(bookService.streamAllBooks()).thenReturn(books);
+        AtomicInteger flushes = new AtomicInteger();
+        when(response.getWriter()).thenReturn(new PrintWriter(stringWriter) {
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+                super.flush();
+            }
+        });
+
+        fileService.exportCSV("all-book", response);
+
+        String output = stringWriter.toString();
+        assertTrue(output.contains("ISBN" + rows));
+        assertTrue(closed.get());
+        assertEquals(4, flushes.get()); // first row, two intervals, end of stream
+        verify(bookService, never()).findAllBooks();
+    }
+
+    @Test
+    void testImportCSV_Author_ShouldRejectBadAndExistingRows() throws Exception {
+        when(authorService.streamAllAuthors()).thenReturn(Stream.of(new AuthorRecord(1L, "Matt", "Existing")));
+        String csv = "ID,NAME,DESCRIPTION\n"
+                + ",Josh Lang,Writer\n"
+                + ",Matt,Duplicate of a stored author\n"
+                + ",,No name\n"
+                + ",Josh Lang,Duplicate in the file\n";
+
+        ImportReport report = fileService.importCSV("all-author", csv(csv));
+
+        assertEquals(1, report.imported());
+        assertEquals(3, report.rejected());
+        assertEquals(List.of(new ImportError(3, "NAME 'Matt' already exists"),
+                new ImportError(4, "NAME is required"),
+                new ImportError(5, "'Josh Lang' appears more than once")), report.errors());
+        verify(authorService).createAuthors(createdAuthors.capture());
+        assertEquals("Josh Lang", createdAuthors.getValue().get(0).getName());
+        assertEquals("Writer", createdAuthors.getValue().get(0).getDescription());
+    }
+
+    @Test
+    void testImportCSV_Book_ShouldLinkStoredRelationsByReference() throws Exception {
+        when(authorService.streamAllAuthors()).thenReturn(Stream.of(new AuthorRecord(7L, "Matt", "Existing")));
+        when(categoryService.streamAllCategories()).thenReturn(Stream.empty());
+        when(publisherService.streamAllPublishers()).thenReturn(Stream.empty());
+        when(bookService.findExistingIsbns(anyCollection())).thenReturn(Set.of("stored"));
+        Author stored = new Author("Matt", "Existing");
+        when(entityManager.getReference(Author.class, 7L)).thenReturn(stored);
+        String csv = "isbn,name,serialName,description,authors,categories,publishers\n"
+                + "new,New Book,S1,Desc,Matt|Josh,Fiction,Penguin\n"
+                + "stored,Stored Book,S2,Desc,Matt,,\n";
+
+        ImportReport report = fileService.importCSV("all-book", csv(csv));
+
+        assertEquals(1, report.imported());
+        assertEquals(List.of(new ImportError(3, "ISBN 'stored' already exists")), report.errors());
+        verify(bookService).createBooks(createdBooks.capture());
+        Book book = createdBooks.getValue().get(0);
+        assertEquals("new", book.getIsbn());
+        assertEquals(2, book.getAuthors().size());
+        assertTrue(book.getAuthors().contains(stored));
+        assertEquals("Fiction", book.getCategories().iterator().next().getName());
+        assertEquals("Penguin", book.getPublishers().iterator().next().getName());
+    }
+
+    @Test
+    void testImportCSV_MissingColumn_ShouldImportNothing() throws Exception {
+        ImportReport report = fileService.importCSV("all-author", csv("NAME\nMatt\n"));
+
+        assertEquals(0, report.imported());
+        assertEquals(List.of(new ImportError(1, "Missing column DESCRIPTION")), report.errors());
+        verify(authorService, never()).createAuthors(anyList());
+    }
+
+    @Test
+    void testImportCSV_UnknownItem_ShouldThrowNotFound() {
+        assertThrows(NotFoundException.class, () -> fileService.importCSV("all-members", csv("NAME\n")));
+    }
+
+    private static ByteArrayInputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,83 @@
+package com.knf.dev.librarymanagementsystem.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.knf.dev.librarymanagementsystem.entity.Author;
+import com.knf.dev.librarymanagementsystem.entity.Category;
+import com.knf.dev.librarymanagementsystem.entity.Publisher;
+import com.knf.dev.librarymanagementsystem.service.AuthorService;
+import com.knf.dev.librarymanagementsystem.service.BookService;
+import com.knf.dev.librarymanagementsystem.service.CategoryService;
+import com.knf.dev.librarymanagementsystem.service.PublisherService;
+import com.knf.dev.librarymanagementsystem.vo.KeysetCursor;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PaginationStatementCountTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private AuthorService authorService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private PublisherService publisherService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void findPaginated_ShouldIssueAtMostPageAndCountQueries() {
+        authorService.createAuthor(new Author("Paging Author", "Statement count test"));
+        categoryService.createCategory(new Category("Paging Category"));
+        publisherService.createPublisher(new Publisher("Paging Publisher"));
+
+        assertStatements(2, () -> bookService.findPaginated(PageRequest.of(0, 2)));
+        assertStatements(2, () -> authorService.findPaginated(PageRequest.of(0, 2)));
+        assertStatements(2, () -> categoryService.findPaginated(PageRequest.of(0, 2)));
+        assertStatements(2, () -> publisherService.findPaginated(PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void findPaginated_ShouldReuseCachedCountOnNextPage() {
+        bookService.findPaginated(PageRequest.of(0, 2));
+
+        assertStatements(1, () -> bookService.findPaginated(PageRequest.of(1, 2)));
+    }
+
+    @Test
+    void findSliceAfter_ShouldIssueSingleQuery() {
+        assertStatements(1, () -> bookService.findSliceAfter(KeysetCursor.start("name"), 2));
+    }
+
+    private void assertStatements(long max, Runnable pageRequest) {
+        statistics.clear();
+        pageRequest.run();
+        long executed = statistics.getPrepareStatementCount();
+        assertTrue(executed <= max, "expected at most " + max + " statements but was " + executed);
+        assertEquals(0, statistics.getEntityLoadCount(), "list pages should read records, not entities");
+    }
+}
@@ -1,10 +1,18 @@
 package com.knf.dev.librarymanagementsystem.service.impl;
 
+import com.knf.dev.librarymanagementsystem.constant.Item;
 import com.knf.dev.librarymanagementsystem.entity.Publisher;
 import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
 import com.knf.dev.librarymanagementsystem.repository.PublisherRepository;
+import com.knf.dev.librarymanagementsystem.util.CatalogVersions;
+import com.knf.dev.librarymanagementsystem.vo.PublisherRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -19,9 +27,11 @@ import static org.mockito.Mockito.*;
 
 
 
+import com.knf.dev.librarymanagementsystem.constant.Item;
 import com.knf.dev.librarymanagementsystem.entity.Publisher;
 import com.knf.dev.librarymanagementsystem.exception.NotFoundException;
 import com.knf.dev.librarymanagementsystem.repository.PublisherRepository;
+import com.knf.dev.librarymanagementsystem.util.CatalogVersions;
 
 import java.util.List;
 import java.util.Optional;
@@ -39,6 +49,9 @@ class PublisherServiceTest {
     @Mock
     private PublisherRepository publisherRepository;
 
+    @Mock
+    private CatalogVersions catalogVersions;
+
     @InjectMocks
     private PublisherServiceImpl publisherService;
 
@@ -103,6 +116,7 @@ class PublisherServiceTest {
 
         verify(publisherRepository, times(1)).findById(1L);
         verify(publisherRepository, times(1)).deleteById(1L);
+        verify(catalogVersions).bump(Item.PUBLISHER);
     }
 
     @Test
@@ -113,5 +127,18 @@ class PublisherServiceTest {
         verify(publisherRepository, times(1)).findById(1L);
         verify(publisherRepository, never()).deleteById(any());
     }
-}
 
+    @Test
+    void findPaginated_ShouldDelegateToBoundedQuery() {
+        when(publisherRepository.findRecordsBy(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(new PublisherRecord(1L, "Sample Publisher"))));
+        when(publisherRepository.count()).thenReturn(1L);
+
+        Page<PublisherRecord> page = publisherService.findPaginated(PageRequest.of(0, 5));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals("Sample Publisher", page.getContent().get(0).name());
+        verify(publisherRepository).findRecordsBy(PageRequest.of(0, 5, Sort.by("id")));
+        verify(publisherRepository, never()).findAll();
+    }
+}
@@ -0,0 +1,88 @@
+package com.knf.dev.librarymanagementsystem.service.impl;
+
+import com.knf.dev.librarymanagementsystem.constant.CacheRegions;
+import com.knf.dev.librarymanagementsystem.entity.Category;
+import com.knf.dev.librarymanagementsystem.service.CategoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reads categories through the second-level and query caches and checks that
+ * repeated reads skip the database while every write through the service is
+ * visible on the next read.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void findAllCategories_ShouldBeServedFromCacheUntilWritten() {
+        categoryService.findAllCategories();
+
+        statistics.clear();
+        categoryService.findAllCategories();
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        Category category = new Category("cache-test");
+        categoryService.createCategory(category);
+        assertTrue(names().contains("cache-test"));
+
+        category.setName("cache-test-renamed");
+        categoryService.updateCategory(category);
+        assertTrue(names().contains("cache-test-renamed"));
+
+        categoryService.deleteCategory(category.getId());
+        assertFalse(names().contains("cache-test-renamed"));
+
+        statistics.clear();
+        names();
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void cacheRegions_ShouldPublishHitAndMissCounters() {
+        categoryService.findAllCategories();
+        categoryService.findAllCategories();
+
+        assertTrue(gets(CacheRegions.REFERENCE_DATA_QUERIES, "hit") > 0);
+        assertTrue(gets(CacheRegions.REFERENCE_DATA_QUERIES, "miss") > 0);
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", CacheRegions.CATEGORIES).meter());
+    }
+
+    private List<String> names() {
+        return categoryService.findAllCategories().stream().map(Category::getName).collect(Collectors.toList());
+    }
+
+    private double gets(String region, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", region).tag("result", result).functionCounter().count();
+    }
+}
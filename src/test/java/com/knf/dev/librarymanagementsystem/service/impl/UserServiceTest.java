@@ -6,6 +6,7 @@ import com.knf.dev.librarymanagementsystem.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
@@ -61,4 +62,58 @@ class UserServiceImplTest {
 
         verify(userRepository).findByEmail("notfound@example.com");
     }
-}
\ No newline at end of file
+
+    @Test
+    void loadUserByUsername_ShouldServeRepeatedLoginsFromCache() {
+        when(userRepository.findByEmail("test@example.com")).thenReturn(testUser);
+
+        userService.loadUserByUsername("test@example.com");
+        UserDetails second = userService.loadUserByUsername("test@example.com");
+
+        assertEquals("password123", second.getPassword());
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+    }
+
+    @Test
+    void loadUserByUsername_ShouldReturnCopiesSafeToEraseCredentials() {
+        when(userRepository.findByEmail("test@example.com")).thenReturn(testUser);
+
+        ((CredentialsContainer) userService.loadUserByUsername("test@example.com")).eraseCredentials();
+
+        assertEquals("password123", userService.loadUserByUsername("test@example.com").getPassword());
+    }
+
+    @Test
+    void evictUser_ShouldReloadChangedPassword() {
+        when(userRepository.findByEmail("test@example.com")).thenReturn(testUser);
+        userService.loadUserByUsername("test@example.com");
+
+        testUser.setPassword("changed");
+        userService.evictUser("test@example.com");
+
+        assertEquals("changed", userService.loadUserByUsername("test@example.com").getPassword());
+        verify(userRepository, times(2)).findByEmail("test@example.com");
+    }
+
+    @Test
+    void loadUserByUsername_ShouldNotCacheUnknownUsers() {
+        when(userRepository.findByEmail("notfound@example.com")).thenReturn(null, testUser);
+
+        assertThrows(UsernameNotFoundException.class,
+                () -> userService.loadUserByUsername("notfound@example.com"));
+
+        assertNotNull(userService.loadUserByUsername("notfound@example.com"));
+    }
+
+    @Test
+    void updatePassword_ShouldStoreNewHashAndEvictCachedUser() {
+        when(userRepository.findByEmail("test@example.com")).thenReturn(testUser);
+        UserDetails loaded = userService.loadUserByUsername("test@example.com");
+
+        UserDetails updated = userService.updatePassword(loaded, "{bcrypt}rehashed");
+
+        assertEquals("{bcrypt}rehashed", updated.getPassword());
+        verify(userRepository).save(testUser);
+        assertEquals("{bcrypt}rehashed", userService.loadUserByUsername("test@example.com").getPassword());
+    }
+}
@@ -0,0 +1,61 @@
+package com.knf.dev.librarymanagementsystem.util;
+
+import com.knf.dev.librarymanagementsystem.constant.Item;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogVersionsTest {
+
+    private final CatalogVersions versions = new CatalogVersions();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void etag_ShouldChangeOnlyWhenItsTablesChange() {
+        String books = versions.etag(EnumSet.allOf(Item.class), "user");
+        String authors = versions.etag(Set.of(Item.AUTHOR), "user");
+
+        versions.bump(Item.CATEGORY);
+
+        assertNotEquals(books, versions.etag(EnumSet.allOf(Item.class), "user"));
+        assertEquals(authors, versions.etag(Set.of(Item.AUTHOR), "user"));
+        assertTrue(authors.startsWith("\"") && authors.endsWith("\""), "expected a strong tag but was " + authors);
+    }
+
+    @Test
+    void etag_ShouldDifferPerVariant() {
+        assertNotEquals(versions.etag(Set.of(Item.BOOK), "alice"), versions.etag(Set.of(Item.BOOK), "bob"));
+        assertEquals(versions.etag(Set.of(Item.BOOK), null), versions.etag(Set.of(Item.BOOK), null));
+    }
+
+    @Test
+    void etag_ShouldNotMatchTagsOfAnotherRun() throws InterruptedException {
+        String before = versions.etag(Set.of(Item.BOOK), "user");
+        Thread.sleep(2);
+
+        assertNotEquals(before, new CatalogVersions().etag(Set.of(Item.BOOK), "user"));
+    }
+
+    @Test
+    void bump_InsideTransaction_ShouldWaitForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        versions.bump(Item.AUTHOR);
+        assertEquals(0, versions.version(Item.AUTHOR));
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertEquals(1, versions.version(Item.AUTHOR));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -166,4 +167,41 @@ class MapperTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void bookModelToVo_WithLinkedList_ShouldKeepOrder() {
+        Book book1 = new Book("1", "First", "S", "D");
+        Book book2 = new Book("2", "Second", "S", "D");
+
+        List<BookRecord> result = Mapper.bookModelToVo(new LinkedList<>(List.of(book1, book2)));
+
+        assertEquals(List.of("First", "Second"), result.stream().map(BookRecord::name).toList());
+    }
+
+    @Test
+    void bookToCsvRow_ShouldFillTheRowInHeaderOrder() {
+        Book book = new Book("isbn-1", "Name", null, "Description");
+        book.setId(7L);
+        String[] row = new String[Mapper.bookCsvHeader().length];
+
+        String[] fromRecord = Mapper.bookToCsvRow(Mapper.bookModelToVo(book), row);
+
+        assertSame(row, fromRecord);
+        assertArrayEquals(new String[] { "DESCRIPTION", "ID", "ISBN", "NAME", "SERIALNAME" }, Mapper.bookCsvHeader());
+        assertArrayEquals(new String[] { "Description", "7", "isbn-1", "Name", null }, fromRecord);
+    }
+
+    @Test
+    void csvRows_ShouldMatchTheirHeaders() {
+        String[] author = Mapper.authorToCsvRow(new AuthorRecord(1L, "Ada", "Bio"), new String[3]);
+        String[] category = Mapper.categoryToCsvRow(new CategoryRecord(2L, "Fiction"), new String[2]);
+        String[] publisher = Mapper.publisherToCsvRow(new PublisherRecord(3L, "Penguin"), new String[2]);
+
+        assertArrayEquals(new String[] { "DESCRIPTION", "ID", "NAME" }, Mapper.authorCsvHeader());
+        assertArrayEquals(new String[] { "Bio", "1", "Ada" }, author);
+        assertArrayEquals(new String[] { "ID", "NAME" }, Mapper.categoryCsvHeader());
+        assertArrayEquals(new String[] { "2", "Fiction" }, category);
+        assertArrayEquals(new String[] { "ID", "NAME" }, Mapper.publisherCsvHeader());
+        assertArrayEquals(new String[] { "3", "Penguin" }, publisher);
+    }
+}
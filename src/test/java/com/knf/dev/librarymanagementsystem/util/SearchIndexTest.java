@@ -0,0 +1,84 @@
+package com.knf.dev.librarymanagementsystem.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+class SearchIndexTest {
+
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex(3, 2, 1);
+        index.put(1L, "Spring in Action", "AP1287", "CXEF12389");
+        index.put(2L, "Spring Microservices", "BP567#R", "KCXEF12389");
+        index.put(3L, "Café Boot", "UV#JH", "Spring Series");
+    }
+
+    @Test
+    void search_ShouldBeCaseAndAccentInsensitive() {
+        assertEquals(List.of(3L), index.search("CAFE", PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void search_ShouldMatchPrefixesAndSubstrings() {
+        assertEquals(List.of(2L), index.search("micro", PageRequest.of(0, 10)).getContent());
+        assertEquals(List.of(2L), index.search("service", PageRequest.of(0, 10)).getContent());
+        assertEquals(List.of(1L, 2L), index.search("12389", PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void search_ShouldRankFieldWeightsAndRequireEveryTerm() {
+        Page<Long> page = index.search("spring", PageRequest.of(0, 10));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(3L, page.getContent().get(2)); // serial name only
+        assertEquals(List.of(1L), index.search("spring action", PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void search_ShouldPageRankedResults() {
+        Page<Long> second = index.search("spring", PageRequest.of(1, 2));
+
+        assertEquals(3, second.getTotalElements());
+        assertEquals(List.of(3L), second.getContent());
+    }
+
+    @Test
+    void putAndRemove_ShouldKeepIndexCurrent() {
+        index.put(1L, "Renamed Title", "AP1287", "CXEF12389");
+        assertTrue(index.search("action", PageRequest.of(0, 10)).isEmpty());
+        assertEquals(List.of(1L), index.search("renamed", PageRequest.of(0, 10)).getContent());
+
+        index.remove(1L);
+        assertTrue(index.search("renamed", PageRequest.of(0, 10)).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void search_WithBlankQuery_ShouldReturnEmptyPage() {
+        assertTrue(index.search("  ", PageRequest.of(0, 10)).isEmpty());
+        assertTrue(index.search(null, PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    void search_LongPrefixExpansion_ShouldBeFlaggedAsTruncated() {
+        for (long id = 10; id < 10 + SearchIndex.MAX_PREFIX_TERMS + 50; id++) {
+            index.put(id, "t" + id);
+        }
+
+        SearchPage<Long> broad = index.search("t", PageRequest.of(0, 10));
+        assertTrue(broad.isTruncated());
+        assertEquals(SearchIndex.MAX_PREFIX_TERMS, broad.getTotalElements());
+
+        SearchPage<Long> narrow = index.search("t12", PageRequest.of(0, 10));
+        assertFalse(narrow.isTruncated());
+        assertEquals(11, narrow.getTotalElements()); // t12 and t120 to t129
+    }
+}